@@ -0,0 +1,65 @@
+package com.endava.internship.collections;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read-only hot paths: indexed get, iterator traversal and spliterator traversal
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class AccessBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Data {
+        @Param({"StudentList", "ArrayList"})
+        String implementation;
+
+        @Param({"1000", "1000000"})
+        int size;
+
+        List<Student> list;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            list = BenchmarkStudents.newList(implementation, Arrays.asList(BenchmarkStudents.students(size)));
+        }
+    }
+
+    @Benchmark
+    public void get(Data data, Blackhole blackhole) {
+        List<Student> list = data.list;
+        for (int i = 0; i < list.size(); i++) {
+            blackhole.consume(list.get(i));
+        }
+    }
+
+    @Benchmark
+    public void iterator(Data data, Blackhole blackhole) {
+        Iterator<Student> iterator = data.list.iterator();
+        while (iterator.hasNext()) {
+            blackhole.consume(iterator.next());
+        }
+    }
+
+    @Benchmark
+    public void spliterator(Data data, Blackhole blackhole) {
+        data.list.spliterator().forEachRemaining(blackhole::consume);
+    }
+
+    @Benchmark
+    public void subListGet(Data data, Blackhole blackhole) {
+        List<Student> subList = data.list.subList(0, data.size);
+        for (int i = 0; i < subList.size(); i++) {
+            blackhole.consume(subList.get(i));
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.endava.internship.collections;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Shared fixtures for the benchmarks: deterministic students and the list implementations they are compared against
+ */
+final class BenchmarkStudents {
+    private static final LocalDate FIRST_BIRTHDAY = LocalDate.of(1990, 1, 1);
+    private static final String[] DETAILS = {"learner", "chad", "introverted", "nothing", "loser"};
+
+    private BenchmarkStudents() {
+    }
+
+    static Student student(int i) {
+        return new Student("Student" + i, FIRST_BIRTHDAY.plusDays(Math.floorMod(i, 5000)), DETAILS[Math.floorMod(i, DETAILS.length)]);
+    }
+
+    static Student[] students(int count) {
+        return students(0, count);
+    }
+
+    static Student[] students(int from, int count) {
+        Student[] students = new Student[count];
+        for (int i = 0; i < count; i++) {
+            students[i] = student(from + i);
+        }
+        return students;
+    }
+
+    static Student[] shuffled(Student[] students, long seed) {
+        Student[] copy = students.clone();
+        Random random = new Random(seed);
+        for (int i = copy.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Student tmp = copy[i];
+            copy[i] = copy[j];
+            copy[j] = tmp;
+        }
+        return copy;
+    }
+
+    static List<Student> newList(String implementation, Collection<Student> students) {
+        switch (implementation) {
+            case "StudentList":
+                return new StudentList<>(students);
+            case "ArrayList":
+                return new ArrayList<>(students);
+            case "LinkedList":
+                return new LinkedList<>(students);
+            default:
+                throw new IllegalArgumentException("Unknown list implementation: " + implementation);
+        }
+    }
+}
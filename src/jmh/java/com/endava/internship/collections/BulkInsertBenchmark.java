@@ -0,0 +1,66 @@
+package com.endava.internship.collections;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserting a batch into the middle of a list. The cost should grow linearly with {@code size + batch},
+ * not with {@code size * batch}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class BulkInsertBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Data {
+        @Param({"StudentList", "ArrayList"})
+        String implementation;
+
+        @Param({"10000", "100000", "1000000"})
+        int size;
+
+        @Param({"10", "1000", "10000"})
+        int batch;
+
+        List<Student> base;
+        List<Student> inserted;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            base = BenchmarkStudents.newList(implementation, Arrays.asList(BenchmarkStudents.students(size)));
+            inserted = Arrays.asList(BenchmarkStudents.students(size, batch));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Copy {
+        List<Student> list;
+
+        @Setup(Level.Invocation)
+        public void setUp(Data data) {
+            list = BenchmarkStudents.newList(data.implementation, data.base);
+        }
+    }
+
+    @Benchmark
+    public boolean addAllAtMiddle(Data data, Copy copy) {
+        return copy.list.addAll(data.size / 2, data.inserted);
+    }
+
+    @Benchmark
+    public List<Student> addAtMiddle(Data data, Copy copy) {
+        copy.list.add(data.size / 2, data.inserted.get(0));
+        return copy.list;
+    }
+
+    @Benchmark
+    public Student removeAtMiddle(Data data, Copy copy) {
+        return copy.list.remove(data.size / 2);
+    }
+}
@@ -0,0 +1,88 @@
+package com.endava.internship.collections;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * forEach, replaceAll and a 30% removeIf purge over the whole list and over a sub-list covering its middle half.
+ * <p>
+ * {@code iteratorPurge} removes the same students through {@code Iterator.remove}, which is what the inherited
+ * {@code removeIf} did before StudentList overrode it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class BulkOperationsBenchmark {
+    private static final Predicate<Student> PURGED = s -> Math.floorMod(s.getDateOfBirth().toEpochDay(), 10) < 3;
+
+    @State(Scope.Benchmark)
+    public static class Data {
+        @Param({"StudentList", "ArrayList"})
+        String implementation;
+
+        @Param({"list", "subList"})
+        String range;
+
+        @Param({"100000"})
+        int size;
+
+        List<Student> base;
+        Student replacement = BenchmarkStudents.student(-1);
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            base = BenchmarkStudents.newList(implementation, Arrays.asList(BenchmarkStudents.students(size)));
+        }
+
+        List<Student> view(List<Student> list) {
+            return "subList".equals(range) ? list.subList(size / 4, size - size / 4) : list;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Copy {
+        List<Student> list;
+
+        @Setup(Level.Invocation)
+        public void setUp(Data data) {
+            list = data.view(BenchmarkStudents.newList(data.implementation, data.base));
+        }
+    }
+
+    @Benchmark
+    public long forEach(Data data) {
+        long[] days = new long[1];
+        data.view(data.base).forEach(s -> days[0] += s.getDateOfBirth().toEpochDay());
+        return days[0];
+    }
+
+    @Benchmark
+    public List<Student> replaceAll(Data data, Copy copy) {
+        copy.list.replaceAll(s -> PURGED.test(s) ? data.replacement : s);
+        return copy.list;
+    }
+
+    @Benchmark
+    public boolean removeIf(Copy copy) {
+        return copy.list.removeIf(PURGED);
+    }
+
+    @Benchmark
+    public boolean iteratorPurge(Copy copy) {
+        boolean removed = false;
+        for (Iterator<Student> iterator = copy.list.iterator(); iterator.hasNext(); ) {
+            if (PURGED.test(iterator.next())) {
+                iterator.remove();
+                removed = true;
+            }
+        }
+        return removed;
+    }
+}
@@ -0,0 +1,88 @@
+package com.endava.internship.collections;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read-heavy access from many threads. Thread count is a command line setting, e.g.
+ * {@code -Djmh.args="ConcurrentReadBenchmark -t 64"}; run at 1, 4, 16 and 64 threads to compare scaling.
+ * The {@code mixed} group pairs fifteen readers with one writer.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ConcurrentReadBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Data {
+        @Param({"ConcurrentStudentList", "synchronizedList", "CopyOnWriteArrayList"})
+        String implementation;
+
+        @Param({"10000"})
+        int size;
+
+        List<Student> list;
+        Student last;
+        Student replacement;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            List<Student> students = Arrays.asList(BenchmarkStudents.students(size));
+            last = students.get(size - 1);
+            replacement = BenchmarkStudents.student(size);
+            switch (implementation) {
+                case "ConcurrentStudentList":
+                    list = new ConcurrentStudentList<>(students);
+                    break;
+                case "synchronizedList":
+                    list = Collections.synchronizedList(new StudentList<>(students));
+                    break;
+                case "CopyOnWriteArrayList":
+                    list = new CopyOnWriteArrayList<>(students);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown list implementation: " + implementation);
+            }
+        }
+    }
+
+    @Benchmark
+    public Student get(Data data) {
+        return data.list.get(ThreadLocalRandom.current().nextInt(data.size));
+    }
+
+    @Benchmark
+    public boolean contains(Data data) {
+        return data.list.contains(data.last);
+    }
+
+    @Benchmark
+    public void iterate(Data data, Blackhole blackhole) {
+        for (Student student : data.list) {
+            blackhole.consume(student);
+        }
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(15)
+    public Student mixedGet(Data data) {
+        return data.list.get(ThreadLocalRandom.current().nextInt(data.size));
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public Student mixedSet(Data data) {
+        return data.list.set(ThreadLocalRandom.current().nextInt(data.size), data.replacement);
+    }
+}
@@ -0,0 +1,27 @@
+package com.endava.internship.collections;
+
+import java.util.function.Supplier;
+
+/**
+ * Rough retained-heap measurement: the used heap after a full collection with and without the built structure alive
+ */
+final class Footprint {
+
+    private Footprint() {
+    }
+
+    static long retainedBytes(Supplier<?> builder, Object[] keepAlive) {
+        long before = usedHeap();
+        keepAlive[0] = builder.get();
+        long after = usedHeap();
+        return after - before;
+    }
+
+    static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,78 @@
+package com.endava.internship.collections;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishing one roster to many consumers that each keep a defensive copy: {@code Collections.unmodifiableList}
+ * over a StudentList, which consumers must copy, against a {@link FrozenStudentList}, which {@code copyOf} returns
+ * as is.
+ * <p>
+ * {@code publish} reports the heap retained by all consumer copies ({@code retainedBytes}); {@code subList} is the
+ * cost of taking a view.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class FreezeBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Data {
+        @Param({"unmodifiable", "frozen"})
+        String form;
+
+        @Param({"100000"})
+        int size;
+
+        @Param({"100"})
+        int consumers;
+
+        List<Student> published;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            StudentList<Student> roster = new StudentList<>(Arrays.asList(BenchmarkStudents.students(size)));
+            published = "frozen".equals(form) ? roster.drainToFrozen() : Collections.unmodifiableList(roster);
+        }
+
+        List<Student> defensiveCopy() {
+            return "frozen".equals(form) ? FrozenStudentList.copyOf(published) : new ArrayList<>(published);
+        }
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Counters {
+        public long retainedBytes;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void publish(Data data, Counters counters) {
+        counters.retainedBytes = Footprint.retainedBytes(() -> {
+            List<List<Student>> copies = new ArrayList<>(data.consumers);
+            for (int i = 0; i < data.consumers; i++) {
+                copies.add(data.defensiveCopy());
+            }
+            return copies;
+        }, new Object[1]);
+    }
+
+    @Benchmark
+    public List<Student> defensiveCopy(Data data) {
+        return data.defensiveCopy();
+    }
+
+    @Benchmark
+    public List<Student> subList(Data data) {
+        return data.published.subList(data.size / 4, data.size / 2);
+    }
+}
@@ -0,0 +1,74 @@
+package com.endava.internship.collections;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GC cost of keeping a large roster alive on the heap versus in direct memory.
+ * <p>
+ * {@code fullGc} times a full collection with the roster as live set. {@code churn} allocates short-lived garbage
+ * next to the roster and reports the collector time it caused in the {@code gcMillis} counter.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms6g", "-Xmx6g", "-XX:MaxDirectMemorySize=8g"})
+public class GcPressureBenchmark {
+    private static final LocalDate FIRST_BIRTHDAY = LocalDate.of(1990, 1, 1);
+
+    @State(Scope.Benchmark)
+    public static class Data {
+        @Param({"StudentList", "OffHeapStudentList"})
+        String implementation;
+
+        @Param({"10000000"})
+        int size;
+
+        List<Student> roster;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            roster = "OffHeapStudentList".equals(implementation) ? new OffHeapStudentList(size) : new StudentList<>(size);
+            for (int i = 0; i < size; i++) {
+                roster.add(new Student("Student" + i, FIRST_BIRTHDAY.plusDays(i % 7000), "details" + i % 100));
+            }
+        }
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Counters {
+        public long gcMillis;
+    }
+
+    @Benchmark
+    public int fullGc(Data data) {
+        System.gc();
+        return data.roster.size();
+    }
+
+    @Benchmark
+    public void churn(Data data, Counters counters, Blackhole blackhole) {
+        long before = collectionMillis();
+        for (int i = 0; i < 2_000_000; i++) {
+            blackhole.consume(new Student("Temp" + i, FIRST_BIRTHDAY.plusDays(i % 365), null));
+        }
+        blackhole.consume(data.roster.get(data.size / 2));
+        counters.gcMillis += collectionMillis() - before;
+    }
+
+    private static long collectionMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, bean.getCollectionTime());
+        }
+        return total;
+    }
+}
@@ -0,0 +1,83 @@
+package com.endava.internship.collections;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Appending a large roster under each growth policy.
+ * <p>
+ * {@code build} reports the total time together with the number of resizes and the slots left unused at the end
+ * ({@code slackSlots}, 4 to 8 bytes each depending on compressed oops). {@code add} samples single appends on a
+ * growing list, so the percentiles show the copy spikes of each policy.
+ */
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class GrowthPolicyBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Data {
+        @Param({"doubling", "factor1.5", "fixed1M", "capped1M"})
+        String policy;
+
+        @Param({"10000000"})
+        int size;
+
+        Student student = BenchmarkStudents.student(0);
+
+        GrowthPolicy growthPolicy() {
+            switch (policy) {
+                case "doubling":
+                    return GrowthPolicy.doubling();
+                case "factor1.5":
+                    return GrowthPolicy.factor(1.5);
+                case "fixed1M":
+                    return GrowthPolicy.fixedIncrement(1_000_000);
+                case "capped1M":
+                    return GrowthPolicy.capped(GrowthPolicy.doubling(), 1_000_000);
+                default:
+                    throw new IllegalArgumentException("Unknown growth policy: " + policy);
+            }
+        }
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Counters {
+        public long resizes;
+        public long slackSlots;
+    }
+
+    @State(Scope.Thread)
+    public static class Growing {
+        StudentList<Student> list;
+
+        @Setup(Level.Iteration)
+        public void setUp(Data data) {
+            list = new StudentList<>(10, data.growthPolicy());
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public StudentList<Student> build(Data data, Counters counters) {
+        StudentList<Student> list = new StudentList<>(10, data.growthPolicy());
+        for (int i = 0; i < data.size; i++) {
+            list.add(data.student);
+        }
+        counters.resizes = list.resizeCount();
+        counters.slackSlots = list.capacity() - list.size();
+        return list;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Warmup(iterations = 2, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    public boolean add(Data data, Growing growing) {
+        return growing.list.add(data.student);
+    }
+}
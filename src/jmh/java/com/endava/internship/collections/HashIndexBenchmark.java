@@ -0,0 +1,89 @@
+package com.endava.internship.collections;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link StudentList} with and without its hash index: duplicate checks against a large roster, and the cost the
+ * index adds to appends and to insertions and removals in the middle
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class HashIndexBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Data {
+        @Param({"false", "true"})
+        boolean indexed;
+
+        @Param({"2000000"})
+        int size;
+
+        Student[] students;
+        StudentList<Student> list;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            students = BenchmarkStudents.students(size);
+            list = newList(this);
+        }
+    }
+
+    static StudentList<Student> newList(Data data) {
+        StudentList<Student> list = new StudentList<>(Arrays.asList(data.students));
+        if (data.indexed) {
+            list.enableIndex();
+        }
+        return list;
+    }
+
+    @State(Scope.Thread)
+    public static class Copy {
+        StudentList<Student> list;
+
+        @Setup(Level.Invocation)
+        public void setUp(Data data) {
+            list = newList(data);
+        }
+    }
+
+    @Benchmark
+    public boolean containsPresent(Data data) {
+        return data.list.contains(data.students[ThreadLocalRandom.current().nextInt(data.size)]);
+    }
+
+    @Benchmark
+    public boolean containsAbsent(Data data) {
+        return data.list.contains(BenchmarkStudents.student(-1 - ThreadLocalRandom.current().nextInt(data.size)));
+    }
+
+    @Benchmark
+    public int indexOf(Data data) {
+        return data.list.indexOf(data.students[ThreadLocalRandom.current().nextInt(data.size)]);
+    }
+
+    @Benchmark
+    public StudentList<Student> appendThenRemoveLast(Data data) {
+        data.list.add(BenchmarkStudents.student(-1));
+        data.list.remove(data.size);
+        return data.list;
+    }
+
+    @Benchmark
+    public int insertAtMiddleThenIndexOf(Data data, Copy copy) {
+        copy.list.add(data.size / 2, BenchmarkStudents.student(-1));
+        return copy.list.indexOf(data.students[data.size - 1]);
+    }
+
+    @Benchmark
+    public int removeAtMiddleThenIndexOf(Data data, Copy copy) {
+        copy.list.remove(data.size / 2);
+        return copy.list.indexOf(data.students[data.size - 1]);
+    }
+}
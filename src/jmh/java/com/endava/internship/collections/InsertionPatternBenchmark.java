@@ -0,0 +1,76 @@
+package com.endava.internship.collections;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A batch of insertions at random positions and clustered around a moving cursor, for each storage strategy
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class InsertionPatternBenchmark {
+    private static final int INSERTIONS = 10_000;
+
+    @State(Scope.Benchmark)
+    public static class Data {
+        @Param({"ARRAY", "GAP_BUFFER"})
+        StudentList.Storage storage;
+
+        @Param({"100000", "1000000"})
+        int size;
+
+        List<Student> students;
+        Student inserted;
+        int[] randomPositions;
+        int[] clusteredPositions;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            students = Arrays.asList(BenchmarkStudents.students(size));
+            inserted = BenchmarkStudents.student(-1);
+            Random random = new Random(13);
+            randomPositions = new int[INSERTIONS];
+            clusteredPositions = new int[INSERTIONS];
+            int cursor = size / 3;
+            for (int k = 0; k < INSERTIONS; k++) {
+                randomPositions[k] = random.nextInt(size + k + 1);
+                cursor = Math.max(0, Math.min(size + k, cursor + random.nextInt(9) - 3));
+                clusteredPositions[k] = cursor;
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Copy {
+        List<Student> list;
+
+        @Setup(Level.Invocation)
+        public void setUp(Data data) {
+            list = StudentList.newList(data.storage);
+            list.addAll(data.students);
+        }
+    }
+
+    @Benchmark
+    public List<Student> randomInsertions(Data data, Copy copy) {
+        for (int position : data.randomPositions) {
+            copy.list.add(position, data.inserted);
+        }
+        return copy.list;
+    }
+
+    @Benchmark
+    public List<Student> clusteredInsertions(Data data, Copy copy) {
+        for (int position : data.clusteredPositions) {
+            copy.list.add(position, data.inserted);
+        }
+        return copy.list;
+    }
+}
@@ -0,0 +1,78 @@
+package com.endava.internship.collections;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the listener hooks on the hottest StudentList paths.
+ * <p>
+ * {@code none} is the disabled path and should match ArrayList, the uninstrumented reference, within the error;
+ * {@code metrics} attaches a {@link StudentListMetrics} to show what enabled counting costs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class InstrumentationBenchmark {
+
+    @State(Scope.Thread)
+    public static class Data {
+        @Param({"none", "metrics", "ArrayList"})
+        String listener;
+
+        @Param({"1000"})
+        int size;
+
+        List<Student> list;
+        Student missing = BenchmarkStudents.student(-1);
+        Student student = BenchmarkStudents.student(0);
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            List<Student> students = Arrays.asList(BenchmarkStudents.students(size));
+            if ("ArrayList".equals(listener)) {
+                list = new ArrayList<>(students);
+            } else {
+                StudentList<Student> studentList = new StudentList<>(students);
+                if ("metrics".equals(listener)) {
+                    studentList.setListener(new StudentListMetrics());
+                }
+                list = studentList;
+            }
+        }
+    }
+
+    @Benchmark
+    public long getAll(Data data) {
+        List<Student> list = data.list;
+        long days = 0;
+        for (int i = 0; i < list.size(); i++) {
+            days += list.get(i).getDateOfBirth().toEpochDay();
+        }
+        return days;
+    }
+
+    @Benchmark
+    public int indexOfMissing(Data data) {
+        return data.list.indexOf(data.missing);
+    }
+
+    @Benchmark
+    public Student insertAndRemoveMiddle(Data data) {
+        List<Student> list = data.list;
+        list.add(list.size() / 2, data.student);
+        return list.remove(list.size() / 2);
+    }
+
+    @Benchmark
+    public Student appendAndRemoveLast(Data data) {
+        List<Student> list = data.list;
+        list.add(data.student);
+        return list.remove(list.size() - 1);
+    }
+}
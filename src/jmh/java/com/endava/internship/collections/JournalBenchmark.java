@@ -0,0 +1,98 @@
+package com.endava.internship.collections;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bringing a replica up to date after a few changes to a large roster: re-sending a full copy against replaying the
+ * journal deltas. {@code appendJournaled} and {@code appendPlain} show what recording costs on the writer.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class JournalBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Data {
+        @Param({"1000000"})
+        int size;
+
+        @Param({"100"})
+        int changes;
+
+        Student[] students;
+        Student student = BenchmarkStudents.student(-1);
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            students = BenchmarkStudents.students(size);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Replication {
+        StudentList<Student> source;
+        StudentList<Student> replica;
+        JournalApplier<Student> applier;
+
+        @Setup(Level.Invocation)
+        public void setUp(Data data) {
+            source = new StudentList<>(Arrays.asList(data.students));
+            replica = new StudentList<>(source);
+            applier = new JournalApplier<>(replica);
+            source.enableJournal();
+            for (int i = 0; i < data.changes; i++) {
+                source.set(i * (data.size / data.changes), data.student);
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Appending {
+        StudentList<Student> plain;
+        StudentList<Student> journaled;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            plain = new StudentList<>();
+            journaled = new StudentList<>();
+            journaled.enableJournal();
+        }
+    }
+
+    @Benchmark
+    public StudentList<Student> fullCopy(Replication replication) {
+        return new StudentList<>(replication.source);
+    }
+
+    @Benchmark
+    public StudentList<Student> replayDeltas(Replication replication) {
+        replication.applier.applyAll(replication.source.journal().since(replication.applier.appliedSequence()));
+        return replication.replica;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public boolean appendPlain(Data data, Appending appending) {
+        if (appending.plain.size() == 1_000_000) {
+            appending.plain.clear();
+        }
+        return appending.plain.add(data.student);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public boolean appendJournaled(Data data, Appending appending) {
+        if (appending.journaled.size() == 1_000_000) {
+            appending.journaled.clear();
+            appending.journaled.journal().truncate(appending.journaled.journal().lastSequence());
+        }
+        return appending.journaled.add(data.student);
+    }
+}
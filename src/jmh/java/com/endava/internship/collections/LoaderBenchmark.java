@@ -0,0 +1,97 @@
+package com.endava.internship.collections;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loading generated roster files with {@link StudentLoader} against the line-by-line approach it replaces
+ * ({@code BufferedReader.readLine}, {@code String.split}, {@code LocalDate.parse} and one {@code add} per student).
+ * <p>
+ * The score is whole files per second; the {@code records} counter gives the same rate in students per second.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class LoaderBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Roster {
+        @Param({"1000000"})
+        int size;
+
+        Path directory;
+        Path csv;
+        Path json;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            directory = Files.createTempDirectory("loader-benchmark");
+            csv = directory.resolve("roster.csv");
+            json = directory.resolve("roster.json");
+            try (Writer csvWriter = Files.newBufferedWriter(csv, StandardCharsets.UTF_8);
+                 Writer jsonWriter = Files.newBufferedWriter(json, StandardCharsets.UTF_8)) {
+                csvWriter.write("name,dateOfBirth,details\n");
+                jsonWriter.write("[\n");
+                for (int i = 0; i < size; i++) {
+                    Student student = BenchmarkStudents.student(i);
+                    csvWriter.write(student.getName() + "," + student.getDateOfBirth() + "," + student.getDetails() + "\n");
+                    jsonWriter.write((i == 0 ? "" : ",\n") + "{\"name\":\"" + student.getName()
+                            + "\",\"dateOfBirth\":\"" + student.getDateOfBirth()
+                            + "\",\"details\":\"" + student.getDetails() + "\"}");
+                }
+                jsonWriter.write("\n]\n");
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            Files.deleteIfExists(csv);
+            Files.deleteIfExists(json);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Counters {
+        public long records;
+    }
+
+    @Benchmark
+    public StudentList<Student> loaderCsv(Roster roster, Counters counters) throws IOException {
+        StudentList<Student> students = StudentLoader.load(roster.csv, StudentLoader.Format.CSV);
+        counters.records += students.size();
+        return students;
+    }
+
+    @Benchmark
+    public StudentList<Student> loaderJson(Roster roster, Counters counters) throws IOException {
+        StudentList<Student> students = StudentLoader.load(roster.json, StudentLoader.Format.JSON);
+        counters.records += students.size();
+        return students;
+    }
+
+    @Benchmark
+    public StudentList<Student> lineByLineCsv(Roster roster, Counters counters) throws IOException {
+        StudentList<Student> students = new StudentList<>();
+        try (BufferedReader reader = Files.newBufferedReader(roster.csv, StandardCharsets.UTF_8)) {
+            reader.readLine();
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                String[] fields = line.split(",", -1);
+                students.add(new Student(fields[0], LocalDate.parse(fields[1]), fields[2]));
+            }
+        }
+        counters.records += students.size();
+        return students;
+    }
+}
@@ -0,0 +1,63 @@
+package com.endava.internship.collections;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Startup cost: reopening a persisted {@link MappedStudentList} versus rebuilding a {@link StudentList} element by element
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class MappedOpenBenchmark {
+
+    @Param({"1000000"})
+    int size;
+
+    Path directory;
+    Path path;
+    Student[] students;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        students = BenchmarkStudents.students(size);
+        directory = Files.createTempDirectory("mapped-open");
+        path = directory.resolve("roster");
+        try (MappedStudentList list = MappedStudentList.open(path)) {
+            for (Student student : students) {
+                list.add(student);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(path);
+        Files.deleteIfExists(MappedStudentList.arenaPath(path));
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public Student reopenMapped() throws IOException {
+        try (MappedStudentList list = MappedStudentList.open(path)) {
+            return list.get(size / 2);
+        }
+    }
+
+    @Benchmark
+    public Student rebuildStudentList() {
+        List<Student> list = new StudentList<>();
+        for (Student student : students) {
+            list.add(student);
+        }
+        return list.get(size / 2);
+    }
+}
@@ -0,0 +1,63 @@
+package com.endava.internship.collections;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Parallel filter/map/collect throughput. The stream runs inside a dedicated pool, so {@code parallelism}
+ * controls the number of cores used.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ParallelStreamBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Data {
+        @Param({"StudentList", "ArrayList"})
+        String implementation;
+
+        @Param({"3000000"})
+        int size;
+
+        @Param({"1", "2", "4", "8"})
+        int parallelism;
+
+        List<Student> list;
+        ForkJoinPool pool;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            list = BenchmarkStudents.newList(implementation, Arrays.asList(BenchmarkStudents.students(size)));
+            pool = new ForkJoinPool(parallelism);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            pool.shutdown();
+        }
+    }
+
+    @Benchmark
+    public List<String> filterMapCollect(Data data) throws ExecutionException, InterruptedException {
+        return data.pool.submit(() -> data.list.parallelStream()
+                .filter(s -> s.getDateOfBirth().getDayOfMonth() < 10)
+                .map(Student::getName)
+                .collect(Collectors.toList())).get();
+    }
+
+    @Benchmark
+    public long filterCount(Data data) throws ExecutionException, InterruptedException {
+        return data.pool.submit(() -> data.list.parallelStream()
+                .filter(s -> s.getName().hashCode() % 3 == 0)
+                .count()).get();
+    }
+}
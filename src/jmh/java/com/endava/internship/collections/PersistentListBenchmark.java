@@ -0,0 +1,111 @@
+package com.endava.internship.collections;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeping a version of a roster per term day: a full StudentList copy per day against a
+ * {@link PersistentStudentList} version sharing structure with the previous day.
+ * <p>
+ * {@code history} reports the heap retained by all versions beyond the first roster ({@code retainedBytes});
+ * {@code get} and {@code iterate} are the read costs paid for the sharing.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+public class PersistentListBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Data {
+        @Param({"StudentList", "persistent"})
+        String implementation;
+
+        @Param({"1000000"})
+        int size;
+
+        @Param({"365"})
+        int versions;
+
+        @Param({"100"})
+        int changesPerDay;
+
+        List<Student> roster;
+        int[] indexes;
+        Student[] replacements;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            List<Student> students = Arrays.asList(BenchmarkStudents.students(size));
+            roster = "persistent".equals(implementation) ? PersistentStudentList.copyOf(students) : new StudentList<>(students);
+            Random random = new Random(42);
+            indexes = new int[versions * changesPerDay];
+            for (int i = 0; i < indexes.length; i++) {
+                indexes[i] = random.nextInt(size);
+            }
+            replacements = BenchmarkStudents.students(size, indexes.length);
+        }
+
+        List<List<Student>> history() {
+            List<List<Student>> history = new ArrayList<>(versions);
+            List<Student> day = roster;
+            for (int v = 0, change = 0; v < versions; v++) {
+                if (day instanceof PersistentStudentList) {
+                    PersistentStudentList<Student> next = (PersistentStudentList<Student>) day;
+                    for (int c = 0; c < changesPerDay; c++, change++) {
+                        next = next.with(indexes[change], replacements[change]);
+                    }
+                    day = next;
+                } else {
+                    StudentList<Student> next = new StudentList<>(day);
+                    for (int c = 0; c < changesPerDay; c++, change++) {
+                        next.set(indexes[change], replacements[change]);
+                    }
+                    day = next;
+                }
+                history.add(day);
+            }
+            return history;
+        }
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Counters {
+        public long retainedBytes;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    public void history(Data data, Counters counters) {
+        counters.retainedBytes = Footprint.retainedBytes(data::history, new Object[1]);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1024)
+    public void get(Data data, Blackhole blackhole) {
+        List<Student> roster = data.roster;
+        int[] indexes = data.indexes;
+        for (int i = 0; i < 1024; i++) {
+            blackhole.consume(roster.get(indexes[i]));
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void iterate(Data data, Blackhole blackhole) {
+        for (Student student : data.roster) {
+            blackhole.consume(student);
+        }
+    }
+}
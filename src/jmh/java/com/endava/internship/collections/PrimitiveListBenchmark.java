@@ -0,0 +1,100 @@
+package com.endava.internship.collections;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Student ages held in {@code StudentList<Integer>} against {@link IntStudentList}.
+ * <p>
+ * {@code sum} and {@code countAdults} scan the whole list, once as a plain loop and once through a stream;
+ * {@code footprint} reports the retained heap of each representation ({@code retainedBytes}). Ages fall inside the
+ * {@code Integer} cache, so the boxed footprint is the reference array alone; wider values would add an object each.
+ */
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PrimitiveListBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Data {
+        @Param({"1000", "1000000"})
+        int size;
+
+        StudentList<Integer> boxed;
+        IntStudentList primitive;
+
+        @Setup
+        public void setUp() {
+            boxed = boxedAges(size);
+            primitive = primitiveAges(size);
+        }
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Counters {
+        public long retainedBytes;
+    }
+
+    static int age(int i) {
+        return 17 + Math.floorMod(i * 31, 40);
+    }
+
+    static StudentList<Integer> boxedAges(int size) {
+        StudentList<Integer> ages = new StudentList<>(size);
+        for (int i = 0; i < size; i++) {
+            ages.add(age(i));
+        }
+        return ages;
+    }
+
+    static IntStudentList primitiveAges(int size) {
+        IntStudentList ages = new IntStudentList(size);
+        for (int i = 0; i < size; i++) {
+            ages.add(age(i));
+        }
+        return ages;
+    }
+
+    @Benchmark
+    public long sumBoxed(Data data) {
+        StudentList<Integer> ages = data.boxed;
+        long sum = 0;
+        for (int i = 0; i < ages.size(); i++) {
+            sum += ages.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sumPrimitive(Data data) {
+        return data.primitive.sum();
+    }
+
+    @Benchmark
+    public long countAdultsBoxed(Data data) {
+        return data.boxed.stream().filter(age -> age >= 18).count();
+    }
+
+    @Benchmark
+    public long countAdultsPrimitive(Data data) {
+        return data.primitive.stream().filter(age -> age >= 18).count();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void footprintBoxed(Data data, Counters counters) {
+        counters.retainedBytes = Footprint.retainedBytes(() -> boxedAges(data.size), new Object[1]);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void footprintPrimitive(Data data, Counters counters) {
+        counters.retainedBytes = Footprint.retainedBytes(() -> primitiveAges(data.size), new Object[1]);
+    }
+}
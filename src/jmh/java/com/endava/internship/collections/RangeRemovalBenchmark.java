@@ -0,0 +1,62 @@
+package com.endava.internship.collections;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deleting a block from the middle of a large roster through {@code subList(a, b).clear()}, and purging part of
+ * the block with {@code subList(a, b).removeAll(..)}
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class RangeRemovalBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Data {
+        @Param({"StudentList", "ArrayList"})
+        String implementation;
+
+        @Param({"5000000"})
+        int size;
+
+        @Param({"100000"})
+        int block;
+
+        List<Student> base;
+        List<Student> purged;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            Student[] students = BenchmarkStudents.students(size);
+            base = BenchmarkStudents.newList(implementation, Arrays.asList(students));
+            purged = BenchmarkStudents.newList("ArrayList", Arrays.asList(students).subList(size / 2, size / 2 + block / 2));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Copy {
+        List<Student> list;
+
+        @Setup(Level.Invocation)
+        public void setUp(Data data) {
+            list = BenchmarkStudents.newList(data.implementation, data.base);
+        }
+    }
+
+    @Benchmark
+    public List<Student> clearBlock(Data data, Copy copy) {
+        copy.list.subList(data.size / 2, data.size / 2 + data.block).clear();
+        return copy.list;
+    }
+
+    @Benchmark
+    public boolean removeAllInBlock(Data data, Copy copy) {
+        return copy.list.subList(data.size / 2, data.size / 2 + data.block).removeAll(data.purged);
+    }
+}
@@ -0,0 +1,63 @@
+package com.endava.internship.collections;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Roster reconciliation: removeAll/retainAll against an argument of comparable size, and removeIf
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ReconcileBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Data {
+        @Param({"StudentList", "ArrayList"})
+        String implementation;
+
+        @Param({"10000", "500000"})
+        int size;
+
+        List<Student> base;
+        List<Student> other;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            Student[] students = BenchmarkStudents.students(size);
+            base = BenchmarkStudents.newList(implementation, Arrays.asList(students));
+            Student[] shuffled = BenchmarkStudents.shuffled(students, 7);
+            other = BenchmarkStudents.newList("ArrayList", Arrays.asList(shuffled).subList(0, size / 2));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Copy {
+        List<Student> list;
+
+        @Setup(Level.Invocation)
+        public void setUp(Data data) {
+            list = BenchmarkStudents.newList(data.implementation, data.base);
+        }
+    }
+
+    @Benchmark
+    public boolean removeAll(Data data, Copy copy) {
+        return copy.list.removeAll(data.other);
+    }
+
+    @Benchmark
+    public boolean retainAll(Data data, Copy copy) {
+        return copy.list.retainAll(data.other);
+    }
+
+    @Benchmark
+    public boolean removeIf(Copy copy) {
+        return copy.list.removeIf(s -> s.getDateOfBirth().getDayOfMonth() % 3 == 0);
+    }
+}
@@ -0,0 +1,127 @@
+package com.endava.internship.collections;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link StudentListCodec} against Java serialization of an {@code ArrayList} copy of the roster.
+ * <p>
+ * Both sides write to and read from memory, so only encoding is measured; {@code bytes} reports the encoded size.
+ * Student is not Serializable, so the Java side serializes {@link SerializableStudent}, a mirror with the same
+ * fields. {@code mapAndScan} maps a file written by the codec and iterates it through the lazy view.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class SerializationBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Data {
+        @Param({"100000", "1000000"})
+        int size;
+
+        StudentList<Student> students;
+        ArrayList<SerializableStudent> mirrors;
+        byte[] codecBytes;
+        byte[] javaBytes;
+        Path file;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            students = new StudentList<>(size);
+            mirrors = new ArrayList<>(size);
+            for (Student student : BenchmarkStudents.students(size)) {
+                students.add(student);
+                mirrors.add(new SerializableStudent(student));
+            }
+            codecBytes = writeCodec(students);
+            javaBytes = writeJava(mirrors);
+            file = Files.createTempFile("roster", ".stl");
+            Files.write(file, codecBytes);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Counters {
+        public long bytes;
+    }
+
+    static byte[] writeCodec(List<Student> students) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        StudentListCodec.write(students, Channels.newChannel(bytes));
+        return bytes.toByteArray();
+    }
+
+    static byte[] writeJava(ArrayList<SerializableStudent> students) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(students);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] writeCodec(Data data, Counters counters) throws IOException {
+        byte[] bytes = writeCodec(data.students);
+        counters.bytes = bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    public byte[] writeJava(Data data, Counters counters) throws IOException {
+        byte[] bytes = writeJava(data.mirrors);
+        counters.bytes = bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    public StudentList<Student> readCodec(Data data) throws IOException {
+        return StudentListCodec.read(Channels.newChannel(new ByteArrayInputStream(data.codecBytes)));
+    }
+
+    @Benchmark
+    public Object readJava(Data data) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(data.javaBytes))) {
+            return input.readObject();
+        }
+    }
+
+    @Benchmark
+    public long mapAndScan(Data data) throws IOException {
+        long days = 0;
+        for (Student student : StudentListCodec.map(data.file)) {
+            days += student.getDateOfBirth().toEpochDay();
+        }
+        return days;
+    }
+
+    static final class SerializableStudent implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final String name;
+        private final LocalDate dateOfBirth;
+        private final String details;
+
+        SerializableStudent(Student student) {
+            this.name = student.getName();
+            this.dateOfBirth = student.getDateOfBirth();
+            this.details = student.getDetails();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.endava.internship.collections;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Iteration over a roster while a single writer occasionally replaces an element
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class SnapshotIterationBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Data {
+        @Param({"SnapshotStudentList", "CopyOnWriteArrayList", "synchronizedList"})
+        String implementation;
+
+        @Param({"1000", "100000"})
+        int size;
+
+        List<Student> list;
+        Student replacement;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            List<Student> students = Arrays.asList(BenchmarkStudents.students(size));
+            replacement = BenchmarkStudents.student(size);
+            switch (implementation) {
+                case "SnapshotStudentList":
+                    list = new SnapshotStudentList<>(students);
+                    break;
+                case "CopyOnWriteArrayList":
+                    list = new CopyOnWriteArrayList<>(students);
+                    break;
+                case "synchronizedList":
+                    list = Collections.synchronizedList(new StudentList<>(students));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown list implementation: " + implementation);
+            }
+        }
+    }
+
+    @Benchmark
+    @Group("readMostly")
+    @GroupThreads(7)
+    public void iterate(Data data, Blackhole blackhole) {
+        if (data.list instanceof CopyOnWriteArrayList || data.list instanceof SnapshotStudentList) {
+            for (Student student : data.list) {
+                blackhole.consume(student);
+            }
+        } else {
+            synchronized (data.list) {
+                for (Student student : data.list) {
+                    blackhole.consume(student);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    @Group("readMostly")
+    @GroupThreads(1)
+    public Student replace(Data data) {
+        Blackhole.consumeCPU(1_000_000);
+        return data.list.set(data.size / 2, data.replacement);
+    }
+}
@@ -0,0 +1,76 @@
+package com.endava.internship.collections;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sorting a shuffled roster by name and by date of birth
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+public class SortBenchmark {
+    private static final Comparator<Student> BY_NAME = Comparator.comparing(Student::getName);
+    private static final Comparator<Student> BY_DATE_OF_BIRTH = Comparator.comparing(Student::getDateOfBirth);
+
+    @State(Scope.Benchmark)
+    public static class Data {
+        @Param({"5000000"})
+        int size;
+
+        List<Student> shuffled;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            shuffled = Arrays.asList(BenchmarkStudents.shuffled(BenchmarkStudents.students(size), 5));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Copy {
+        StudentList<Student> studentList;
+        List<Student> arrayList;
+
+        @Setup(Level.Invocation)
+        public void setUp(Data data) {
+            studentList = new StudentList<>(data.shuffled);
+            arrayList = BenchmarkStudents.newList("ArrayList", data.shuffled);
+        }
+    }
+
+    @Benchmark
+    public List<Student> arrayListByName(Copy copy) {
+        copy.arrayList.sort(BY_NAME);
+        return copy.arrayList;
+    }
+
+    @Benchmark
+    public List<Student> sortByName(Copy copy) {
+        copy.studentList.sort(BY_NAME);
+        return copy.studentList;
+    }
+
+    @Benchmark
+    public List<Student> parallelSortByName(Copy copy) {
+        copy.studentList.parallelSort(BY_NAME);
+        return copy.studentList;
+    }
+
+    @Benchmark
+    public List<Student> sortByDateOfBirth(Copy copy) {
+        copy.studentList.sort(BY_DATE_OF_BIRTH);
+        return copy.studentList;
+    }
+
+    @Benchmark
+    public List<Student> parallelSortByDateOfBirth(Copy copy) {
+        copy.studentList.parallelSort(BY_DATE_OF_BIRTH);
+        return copy.studentList;
+    }
+}
@@ -0,0 +1,53 @@
+package com.endava.internship.collections;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookups in a roster kept in name order: binary search in {@link SortedStudentList} versus the linear scan of
+ * {@link StudentList}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class SortedLookupBenchmark {
+
+    @Param({"StudentList", "SortedStudentList"})
+    String implementation;
+
+    @Param({"1000000"})
+    int size;
+
+    Student[] students;
+    List<Student> list;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        students = BenchmarkStudents.students(size);
+        List<Student> shuffled = Arrays.asList(BenchmarkStudents.shuffled(students, 11));
+        if ("SortedStudentList".equals(implementation)) {
+            list = new SortedStudentList<>(shuffled);
+        } else {
+            Student[] sorted = students.clone();
+            Arrays.sort(sorted);
+            list = new StudentList<>(Arrays.asList(sorted));
+        }
+    }
+
+    @Benchmark
+    public int indexOf() {
+        return list.indexOf(students[ThreadLocalRandom.current().nextInt(size)]);
+    }
+
+    @Benchmark
+    public boolean containsAbsent() {
+        return list.contains(BenchmarkStudents.student(-1 - ThreadLocalRandom.current().nextInt(size)));
+    }
+}
@@ -0,0 +1,122 @@
+package com.endava.internship.collections;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building and probing a {@code HashSet} of students, with the cached hash of {@link Student} and with the previous
+ * {@code Objects.hash} based implementation kept here as {@link LegacyStudent} for comparison
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class StudentHashBenchmark {
+
+    @Param({"100000"})
+    int size;
+
+    Student[] students;
+    Student[] probes;
+    LegacyStudent[] legacyStudents;
+    LegacyStudent[] legacyProbes;
+    Set<Student> set;
+    Set<LegacyStudent> legacySet;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        students = BenchmarkStudents.students(size);
+        probes = BenchmarkStudents.students(size / 2, size);
+        legacyStudents = legacy(students);
+        legacyProbes = legacy(probes);
+        set = build(students);
+        legacySet = build(legacyStudents);
+    }
+
+    private static LegacyStudent[] legacy(Student[] students) {
+        LegacyStudent[] legacy = new LegacyStudent[students.length];
+        for (int i = 0; i < students.length; i++) {
+            legacy[i] = new LegacyStudent(students[i].getName(), students[i].getDateOfBirth());
+        }
+        return legacy;
+    }
+
+    private static <T> Set<T> build(T[] elements) {
+        Set<T> set = new HashSet<>();
+        for (T element : elements) {
+            set.add(element);
+        }
+        return set;
+    }
+
+    @Benchmark
+    public Set<Student> build() {
+        return build(students);
+    }
+
+    @Benchmark
+    public Set<LegacyStudent> buildLegacy() {
+        return build(legacyStudents);
+    }
+
+    @Benchmark
+    public int lookup() {
+        int found = 0;
+        for (Student probe : probes) {
+            if (set.contains(probe)) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int lookupLegacy() {
+        int found = 0;
+        for (LegacyStudent probe : legacyProbes) {
+            if (legacySet.contains(probe)) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    static final class LegacyStudent {
+        private final String name;
+        private final LocalDate dateOfBirth;
+
+        LegacyStudent(String name, LocalDate dateOfBirth) {
+            this.name = name;
+            this.dateOfBirth = dateOfBirth;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        LocalDate getDateOfBirth() {
+            return dateOfBirth;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj instanceof LegacyStudent) {
+                LegacyStudent o = (LegacyStudent) obj;
+                return this.getName().equals(o.getName()) && this.getDateOfBirth().equals(o.getDateOfBirth());
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, dateOfBirth);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.endava.internship.collections;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Every {@link StudentList} operation side by side with {@link java.util.ArrayList} and {@link java.util.LinkedList}.
+ * <p>
+ * Run with {@code mvn -P jmh compile exec:exec}; results are written as JSON to {@code target/jmh-result.json}.
+ * A subset can be selected with e.g. {@code -Djmh.args="StudentListBenchmark.indexOf -p size=1000"}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class StudentListBenchmark {
+    private static final int BATCH = 1000;
+
+    @State(Scope.Benchmark)
+    public static class Data {
+        @Param({"StudentList", "ArrayList", "LinkedList"})
+        String implementation;
+
+        @Param({"1000", "100000", "10000000"})
+        int size;
+
+        Student[] students;
+        List<Student> base;
+        List<Student> batch;
+        List<Student> half;
+        Student absent;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            students = BenchmarkStudents.students(size);
+            base = BenchmarkStudents.newList(implementation, Arrays.asList(students));
+            batch = Arrays.asList(BenchmarkStudents.students(size, BATCH));
+            half = Arrays.asList(Arrays.copyOfRange(BenchmarkStudents.shuffled(students, 42), 0, Math.min(size / 2, BATCH)));
+            absent = BenchmarkStudents.student(-1);
+        }
+    }
+
+    /**
+     * A fresh copy of the base list for every invocation, so destructive operations always start from the same state
+     */
+    @State(Scope.Thread)
+    public static class Copy {
+        List<Student> list;
+
+        @Setup(Level.Invocation)
+        public void setUp(Data data) {
+            list = BenchmarkStudents.newList(data.implementation, data.base);
+        }
+    }
+
+    @Benchmark
+    public boolean add(Data data, Copy copy) {
+        return copy.list.add(data.absent);
+    }
+
+    @Benchmark
+    public List<Student> addAtMiddle(Data data, Copy copy) {
+        copy.list.add(data.size / 2, data.absent);
+        return copy.list;
+    }
+
+    @Benchmark
+    public boolean addAllAtMiddle(Data data, Copy copy) {
+        return copy.list.addAll(data.size / 2, data.batch);
+    }
+
+    @Benchmark
+    public Student removeAtMiddle(Data data, Copy copy) {
+        return copy.list.remove(data.size / 2);
+    }
+
+    @Benchmark
+    public boolean removeObject(Data data, Copy copy) {
+        return copy.list.remove(data.students[data.size / 2]);
+    }
+
+    @Benchmark
+    public boolean removeAll(Data data, Copy copy) {
+        return copy.list.removeAll(data.half);
+    }
+
+    @Benchmark
+    public boolean retainAll(Data data, Copy copy) {
+        return copy.list.retainAll(data.half);
+    }
+
+    @Benchmark
+    public int indexOf(Data data) {
+        return data.base.indexOf(data.students[data.size - 1]);
+    }
+
+    @Benchmark
+    public int indexOfAbsent(Data data) {
+        return data.base.indexOf(data.absent);
+    }
+
+    @Benchmark
+    public void iterate(Data data, Blackhole blackhole) {
+        Iterator<Student> iterator = data.base.iterator();
+        while (iterator.hasNext()) {
+            blackhole.consume(iterator.next());
+        }
+    }
+
+    @Benchmark
+    public void subListGet(Data data, Blackhole blackhole) {
+        List<Student> subList = data.base.subList(data.size / 4, data.size / 4 + Math.min(data.size / 2, BATCH));
+        for (int i = 0; i < subList.size(); i++) {
+            blackhole.consume(subList.get(i));
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.endava.internship.collections;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Heap retained by one roster held as {@code StudentList<Student>} and as a columnar {@link StudentStore}.
+ * The {@code retainedBytes} counter is the measurement; the time score only covers building the roster.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@State(Scope.Thread)
+public class StudentStoreFootprintBenchmark {
+    private static final String[] FIRST_NAMES = {"Bob", "Bobby", "Val", "George", "Gaven", "Ana", "Maria", "Ion"};
+    private static final LocalDate FIRST_BIRTHDAY = LocalDate.of(1990, 1, 1);
+
+    @Param({"StudentList", "StudentStore"})
+    String implementation;
+
+    @Param({"1000000", "10000000"})
+    int size;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Counters {
+        public long retainedBytes;
+    }
+
+    private final Object[] keepAlive = new Object[1];
+
+    @TearDown(Level.Iteration)
+    public void release() {
+        keepAlive[0] = null;
+    }
+
+    @Benchmark
+    public void build(Counters counters) {
+        counters.retainedBytes = Footprint.retainedBytes(() -> {
+            List<Student> list = "StudentStore".equals(implementation)
+                    ? new StudentStore(size) : new StudentList<>(size);
+            for (int i = 0; i < size; i++) {
+                list.add(new Student(FIRST_NAMES[i % FIRST_NAMES.length] + " " + (i % 5000),
+                        FIRST_BIRTHDAY.plusDays(i % 7000), i % 10 == 0 ? "scholarship" : null));
+            }
+            return list;
+        }, keepAlive);
+    }
+}
@@ -0,0 +1,528 @@
+package com.endava.internship.collections;
+
+import java.util.*;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Predicate;
+
+/**
+ * Thread-safe sibling of {@link StudentList} for read-heavy workloads.
+ * <p>
+ * get, indexOf, lastIndexOf, contains and iteration run as optimistic reads over the backing array and only fall back
+ * to the read lock when a writer got in between, so readers never block each other. Every mutation, including
+ * resizing, holds the write lock. Iterators and sub-lists are weakly consistent: they never throw
+ * {@link ConcurrentModificationException} and reflect the list as it is at each call, except that once hasNext has
+ * returned true, next returns the element it saw.
+ */
+public class ConcurrentStudentList<E> implements List<E> {
+    private final static Object ABSENT = new Object();
+    private final static int STALE = -2;
+    private final StampedLock lock = new StampedLock();
+    private final StudentList<E> list;
+
+    public ConcurrentStudentList() {
+        list = new StudentList<>();
+    }
+
+    public ConcurrentStudentList(int capacity) {
+        list = new StudentList<>(capacity);
+    }
+
+    public ConcurrentStudentList(Collection<E> objectsCollection) {
+        list = new StudentList<>(objectsCollection);
+    }
+
+    @Override
+    public int size() {
+        long stamp = lock.tryOptimisticRead();
+        int n = list.size;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                n = list.size;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return n;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new ObjectIterator(0);
+    }
+
+    @Override
+    public Object[] toArray() {
+        long stamp = lock.readLock();
+        try {
+            return list.toArray();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public <T> T[] toArray(T[] ts) {
+        long stamp = lock.readLock();
+        try {
+            return list.toArray(ts);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public boolean add(E object) {
+        long stamp = lock.writeLock();
+        try {
+            return list.add(object);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        long stamp = lock.writeLock();
+        try {
+            return list.remove(o);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> collection) {
+        Collection<?> c = snapshotOf(collection);
+        long stamp = lock.readLock();
+        try {
+            return list.containsAll(c);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * The argument is copied before taking the write lock: StampedLock is not reentrant, so reading it under the lock
+     * would deadlock when it is this list or one of its views
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public boolean addAll(Collection<? extends E> collection) {
+        List<E> c = (List<E>) Arrays.asList(collection.toArray());
+        long stamp = lock.writeLock();
+        try {
+            return list.addAll(c);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public boolean addAll(int i, Collection<? extends E> collection) {
+        List<E> c = (List<E>) Arrays.asList(collection.toArray());
+        long stamp = lock.writeLock();
+        try {
+            return list.addAll(i, c);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> collection) {
+        Collection<?> c = snapshotOf(collection);
+        long stamp = lock.writeLock();
+        try {
+            return list.removeAll(c);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> collection) {
+        Collection<?> c = snapshotOf(collection);
+        long stamp = lock.writeLock();
+        try {
+            return list.retainAll(c);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * The filter runs on a snapshot outside the lock, so that it may read this list, see {@link #addAll(Collection)}.
+     * The matches are removed only if the list still holds the same elements; otherwise the filter runs again on a
+     * new snapshot, so it must not change the list itself.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        while (true) {
+            Object[] snapshot = toArray();
+            IntStudentList matches = new IntStudentList();
+            for (int i = 0; i < snapshot.length; i++) {
+                if (filter.test((E) snapshot[i])) {
+                    matches.add(i);
+                }
+            }
+            if (matches.isEmpty()) {
+                return false;
+            }
+            long stamp = lock.writeLock();
+            try {
+                if (holds(snapshot)) {
+                    list.removePositions(matches.toArray());
+                    return true;
+                }
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+    }
+
+    /**
+     * Whether the list holds exactly the elements of the snapshot; the caller holds the lock
+     */
+    private boolean holds(Object[] snapshot) {
+        if (list.size != snapshot.length) {
+            return false;
+        }
+        for (int i = 0; i < snapshot.length; i++) {
+            if (list.objectsArray[i] != snapshot[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Lists and other views are copied before locking, see {@link #addAll(Collection)}
+     */
+    private static Collection<?> snapshotOf(Collection<?> collection) {
+        return collection instanceof Set ? collection : Arrays.asList(collection.toArray());
+    }
+
+    @Override
+    public void clear() {
+        long stamp = lock.writeLock();
+        try {
+            list.clear();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E get(int i) {
+        Object element = elementAt(i);
+        if (element == ABSENT) {
+            throw new IndexOutOfBoundsException();
+        }
+        return (E) element;
+    }
+
+    /**
+     * The element at {@code i} read under one optimistic stamp, or {@link #ABSENT} if the index is out of range
+     */
+    private Object elementAt(int i) {
+        long stamp = lock.tryOptimisticRead();
+        Object[] a = list.objectsArray;
+        int n = list.size;
+        Object element = i >= 0 && i < n && i < a.length ? a[i] : ABSENT;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                element = i >= 0 && i < list.size ? list.objectsArray[i] : ABSENT;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return element;
+    }
+
+    @Override
+    public E set(int i, E object) {
+        long stamp = lock.writeLock();
+        try {
+            return list.set(i, object);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void add(int i, E object) {
+        long stamp = lock.writeLock();
+        try {
+            list.add(i, object);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public E remove(int i) {
+        long stamp = lock.writeLock();
+        try {
+            return list.remove(i);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            int index = optimisticIndexOf(stamp, o, false);
+            if (index != STALE) {
+                return index;
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return list.indexOf(o);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            int index = optimisticIndexOf(stamp, o, true);
+            if (index != STALE) {
+                return index;
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return list.lastIndexOf(o);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Scans the array without locking, or returns {@link #STALE} as soon as a writer gets in. Each slot is copied and
+     * the stamp validated before the element's equals is called, so user code never sees a torn or stale element.
+     */
+    private int optimisticIndexOf(long stamp, Object o, boolean backward) {
+        Object[] a = list.objectsArray;
+        int n = Math.min(list.size, a.length);
+        for (int k = 0; k < n; k++) {
+            int i = backward ? n - 1 - k : k;
+            Object element = a[i];
+            if (!lock.validate(stamp)) {
+                return STALE;
+            }
+            if (Objects.equals(o, element)) {
+                return i;
+            }
+        }
+        return lock.validate(stamp) ? -1 : STALE;
+    }
+
+    @Override
+    public ListIterator<E> listIterator() {
+        return new ObjectIterator(0);
+    }
+
+    @Override
+    public ListIterator<E> listIterator(int i) {
+        if (i < 0 || i > size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        return new ObjectIterator(i);
+    }
+
+    @Override
+    public List<E> subList(int i, int i1) {
+        if (i < 0 || i1 > size()) {
+            throw new IndexOutOfBoundsException();
+        } else if (i > i1) {
+            throw new IllegalArgumentException();
+        }
+        return new SubList(i, i1);
+    }
+
+    /**
+     * Streams run over a snapshot taken under the read lock
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(toArray(), Spliterator.ORDERED);
+    }
+
+    /**
+     * Compares a snapshot taken under the read lock, like any other list
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        return o instanceof List && Arrays.asList(toArray()).equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+
+    @Override
+    public String toString() {
+        long stamp = lock.readLock();
+        try {
+            return "ConcurrentStudentList{" + "size=" + list.size + ", students=" + Arrays.toString(list.toArray()) + '}';
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * hasNext reads the next element ahead under one stamp, so that next returns it even if a writer removes it in
+     * between
+     */
+    private class ObjectIterator implements ListIterator<E> {
+        int cursor;
+        int lastReturned = -1;
+        private Object next = ABSENT;
+
+        ObjectIterator(int index) {
+            cursor = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == ABSENT) {
+                next = elementAt(cursor);
+            }
+            return next != ABSENT;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            E element = (E) next;
+            next = ABSENT;
+            lastReturned = cursor++;
+            return element;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return cursor > 0;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public E previous() {
+            Object element = elementAt(cursor - 1);
+            if (element == ABSENT) {
+                throw new NoSuchElementException();
+            }
+            next = ABSENT;
+            lastReturned = --cursor;
+            return (E) element;
+        }
+
+        @Override
+        public int nextIndex() {
+            return cursor;
+        }
+
+        @Override
+        public int previousIndex() {
+            return cursor - 1;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            ConcurrentStudentList.this.remove(lastReturned);
+            cursor = lastReturned;
+            lastReturned = -1;
+            next = ABSENT;
+        }
+
+        @Override
+        public void set(E element) {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            ConcurrentStudentList.this.set(lastReturned, element);
+        }
+
+        @Override
+        public void add(E element) {
+            ConcurrentStudentList.this.add(cursor++, element);
+            lastReturned = -1;
+            next = ABSENT;
+        }
+    }
+
+    private class SubList extends AbstractList<E> {
+        private final int offset;
+        private int size;
+
+        SubList(int fromIndex, int toIndex) {
+            this.offset = fromIndex;
+            this.size = toIndex - fromIndex;
+        }
+
+        public E get(int index) {
+            checkIndex(index, size - 1);
+            return ConcurrentStudentList.this.get(offset + index);
+        }
+
+        public E set(int index, E element) {
+            checkIndex(index, size - 1);
+            return ConcurrentStudentList.this.set(offset + index, element);
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public void add(int index, E element) {
+            checkIndex(index, size);
+            ConcurrentStudentList.this.add(offset + index, element);
+            size++;
+        }
+
+        public E remove(int index) {
+            checkIndex(index, size - 1);
+            E result = ConcurrentStudentList.this.remove(offset + index);
+            size--;
+            return result;
+        }
+
+        private void checkIndex(int index, int upperLimit) {
+            if (index < 0 || index > upperLimit) {
+                throw new IndexOutOfBoundsException();
+            }
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package com.endava.internship.collections;
+
+import java.util.*;
+import java.util.function.DoublePredicate;
+import java.util.stream.DoubleStream;
+
+/**
+ * {@link StudentList} counterpart that keeps {@code double} values in a {@code double[]} without boxing them.
+ * <p>
+ * It grows through a {@link GrowthPolicy} like StudentList, its iterators and sub-lists fail fast on structural
+ * changes, and {@link #stream()} exposes the values as an {@link DoubleStream}. {@link #asList()} is a boxing
+ * {@code List<Double>} view for APIs that need one.
+ */
+public class DoubleStudentList extends PrimitiveList<double[]> {
+
+    public DoubleStudentList() {
+        super(new double[DEFAULT_CAPACITY], GrowthPolicy.doubling());
+    }
+
+    public DoubleStudentList(int capacity) {
+        this(capacity, GrowthPolicy.doubling());
+    }
+
+    public DoubleStudentList(int capacity, GrowthPolicy growthPolicy) {
+        super(new double[initialCapacity(capacity)], growthPolicy);
+    }
+
+    public static DoubleStudentList of(double... values) {
+        DoubleStudentList list = new DoubleStudentList(values.length);
+        list.addAll(values);
+        return list;
+    }
+
+    @Override
+    int length(double[] values) {
+        return values.length;
+    }
+
+    @Override
+    double[] copyOf(double[] values, int newLength) {
+        return Arrays.copyOf(values, newLength);
+    }
+
+    public double get(int i) {
+        indexInRange(i, size - 1);
+        return values[i];
+    }
+
+    public double set(int i, double value) {
+        indexInRange(i, size - 1);
+        double replaced = values[i];
+        values[i] = value;
+        return replaced;
+    }
+
+    public boolean add(double value) {
+        checkCapacity(1);
+        values[size++] = value;
+        modCount++;
+        return true;
+    }
+
+    public void add(int i, double value) {
+        indexInRange(i, size);
+        openGap(i, 1);
+        values[i] = value;
+    }
+
+    public boolean addAll(double... added) {
+        if (added.length == 0) {
+            return false;
+        }
+        int at = size;
+        openGap(at, added.length);
+        System.arraycopy(added, 0, values, at, added.length);
+        return true;
+    }
+
+    public double removeAt(int i) {
+        indexInRange(i, size - 1);
+        double removed = values[i];
+        closeGap(i, 1);
+        return removed;
+    }
+
+    /**
+     * Removes the matching values in one pass, moving every kept value at most once; if the filter throws, the
+     * values it already matched stay removed
+     */
+    public boolean removeIf(DoublePredicate filter) {
+        return removeIf(filter, 0, size) > 0;
+    }
+
+    private int removeIf(DoublePredicate filter, int start, int end) {
+        Objects.requireNonNull(filter);
+        int w = start;
+        int r = start;
+        try {
+            for (; r < end; r++) {
+                if (!filter.test(values[r])) {
+                    values[w++] = values[r];
+                }
+            }
+        } finally {
+            w = compact(r, w, end);
+        }
+        return end - w;
+    }
+
+    public int indexOf(double value) {
+        return indexOfRange(value, 0, size);
+    }
+
+    public int lastIndexOf(double value) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (Double.doubleToLongBits(values[i]) == Double.doubleToLongBits(value)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public boolean contains(double value) {
+        return indexOf(value) >= 0;
+    }
+
+    private int indexOfRange(double value, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (Double.doubleToLongBits(values[i]) == Double.doubleToLongBits(value)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public double sum() {
+        return sumRange(0, size);
+    }
+
+    private double sumRange(int start, int end) {
+        double sum = 0;
+        for (int i = start; i < end; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Stream over the current values; like any stream over a live collection it must not outlive changes to the list
+     */
+    public DoubleStream stream() {
+        return Arrays.stream(values, 0, size);
+    }
+
+    public double[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    public PrimitiveIterator.OfDouble iterator() {
+        return new ValueIterator(0, size);
+    }
+
+    public DoubleStudentList.SubList subList(int i, int i1) {
+        checkRange(i, i1, size);
+        return new SubList(i, i1);
+    }
+
+    public List<Double> asList() {
+        return new DoubleView();
+    }
+
+    @Override
+    public String toString() {
+        return "DoubleStudentList{" + "size=" + size + ", capacity=" + values.length + ", values=" + Arrays.toString(toArray()) + '}';
+    }
+
+    private class ValueIterator extends Cursor implements PrimitiveIterator.OfDouble {
+
+        ValueIterator(int start, int end) {
+            super(start, end);
+        }
+
+        @Override
+        public double nextDouble() {
+            return values[nextIndex()];
+        }
+    }
+
+    /**
+     * View of a range of the list. Changes made through it, structural ones included, write through to the list; it
+     * fails fast once the list is structurally changed any other way.
+     */
+    public class SubList extends Range {
+
+        private SubList(int fromIndex, int toIndex) {
+            super(fromIndex, toIndex);
+        }
+
+        public double get(int index) {
+            return values[at(index)];
+        }
+
+        public double set(int index, double value) {
+            int i = at(index);
+            double replaced = values[i];
+            values[i] = value;
+            return replaced;
+        }
+
+        public boolean add(double value) {
+            add(size, value);
+            return true;
+        }
+
+        public void add(int index, double value) {
+            DoubleStudentList.this.add(insertionPoint(index), value);
+            changed(1);
+        }
+
+        public double removeAt(int index) {
+            double removed = DoubleStudentList.this.removeAt(at(index));
+            changed(-1);
+            return removed;
+        }
+
+        public boolean removeIf(DoublePredicate filter) {
+            checkForComodification();
+            int rootSize = DoubleStudentList.this.size;
+            try {
+                return DoubleStudentList.this.removeIf(filter, offset, offset + size) > 0;
+            } finally {
+                changed(DoubleStudentList.this.size - rootSize);
+            }
+        }
+
+        public int indexOf(double value) {
+            checkForComodification();
+            int index = indexOfRange(value, offset, offset + size);
+            return index >= 0 ? index - offset : -1;
+        }
+
+        public boolean contains(double value) {
+            return indexOf(value) >= 0;
+        }
+
+        public double sum() {
+            checkForComodification();
+            return sumRange(offset, offset + size);
+        }
+
+        public DoubleStream stream() {
+            checkForComodification();
+            return Arrays.stream(values, offset, offset + size);
+        }
+
+        public double[] toArray() {
+            checkForComodification();
+            return Arrays.copyOfRange(values, offset, offset + size);
+        }
+
+        public PrimitiveIterator.OfDouble iterator() {
+            checkForComodification();
+            return new ValueIterator(offset, offset + size);
+        }
+    }
+
+    private class DoubleView extends BoxedView<Double> {
+
+        @Override
+        public Double get(int index) {
+            return DoubleStudentList.this.get(index);
+        }
+
+        @Override
+        public Double set(int index, Double element) {
+            return DoubleStudentList.this.set(index, element);
+        }
+
+        @Override
+        public void add(int index, Double element) {
+            DoubleStudentList.this.add(index, element);
+            changed();
+        }
+
+        @Override
+        public Double remove(int index) {
+            Double removed = removeAt(index);
+            changed();
+            return removed;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.endava.internship.collections;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Immutable form of {@link StudentList}, made with {@link StudentList#drainToFrozen()} or {@link #copyOf(Collection)},
+ * for rosters published to many readers.
+ * <p>
+ * The backing array is never written after construction and every field but the cached hash code is final, so
+ * instances can be shared between threads without copying or locking; a race on the hash only computes it twice.
+ * {@link #subList(int, int)} returns a view over the same array that is frozen as well, and
+ * {@link #copyOf(Collection)} returns a frozen list as is, so defensive copies cost nothing. The hash code is computed
+ * once. Every mutator throws {@link UnsupportedOperationException}, even when it would not change anything.
+ */
+public final class FrozenStudentList<E> extends ImmutableList<E> implements RandomAccess {
+    private final static FrozenStudentList<?> EMPTY = new FrozenStudentList<>(new Object[0], 0, 0);
+
+    private final Object[] objectsArray;
+    private final int offset;
+    private final int size;
+    private int hash;
+
+    /**
+     * Adopts [offset, offset + size) of the array without copying it; nobody may write to it afterwards
+     */
+    FrozenStudentList(Object[] objectsArray, int offset, int size) {
+        this.objectsArray = objectsArray;
+        this.offset = offset;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E> FrozenStudentList<E> of() {
+        return (FrozenStudentList<E>) EMPTY;
+    }
+
+    /**
+     * Frozen list with the elements of the collection; a frozen list is returned unchanged. The array from
+     * {@code toArray} is only adopted from a StudentList or an ArrayList, which are known to hand out a fresh one.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> FrozenStudentList<E> copyOf(Collection<? extends E> collection) {
+        if (collection instanceof FrozenStudentList) {
+            return (FrozenStudentList<E>) collection;
+        }
+        Object[] c = StudentList.ownedArrayOf(collection);
+        if (c.length == 0) {
+            return of();
+        }
+        return new FrozenStudentList<>(c, 0, c.length);
+    }
+
+    public StudentList<E> toStudentList() {
+        return new StudentList<>(Arrays.copyOfRange(objectsArray, offset, offset + size), size);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return (E) objectsArray[offset + index];
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(o, objectsArray[offset + i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (Objects.equals(o, objectsArray[offset + i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return Arrays.copyOfRange(objectsArray, offset, offset + size);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T[] toArray(T[] a) {
+        if (a.length < size) {
+            return (T[]) Arrays.copyOfRange(objectsArray, offset, offset + size, a.getClass());
+        }
+        System.arraycopy(objectsArray, offset, a, 0, size);
+        if (a.length > size) {
+            a[size] = null;
+        }
+        return a;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        for (int i = offset; i < offset + size; i++) {
+            action.accept((E) objectsArray[i]);
+        }
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(objectsArray, offset, offset + size, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    /**
+     * Zero-copy view sharing this list's array
+     */
+    @Override
+    public FrozenStudentList<E> subList(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size) {
+            throw new IndexOutOfBoundsException();
+        } else if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex == 0 && toIndex == size) {
+            return this;
+        }
+        return new FrozenStudentList<>(objectsArray, offset + fromIndex, toIndex - fromIndex);
+    }
+
+    /**
+     * Computed on first use; a race only computes the same value twice
+     */
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = 1;
+            for (int i = offset; i < offset + size; i++) {
+                h = 31 * h + Objects.hashCode(objectsArray[i]);
+            }
+            hash = h;
+        }
+        return h;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (o instanceof FrozenStudentList) {
+            FrozenStudentList<?> other = (FrozenStudentList<?>) o;
+            if (size != other.size || hashCode() != other.hashCode()) {
+                return false;
+            }
+            for (int i = 0; i < size; i++) {
+                if (!Objects.equals(objectsArray[offset + i], other.objectsArray[other.offset + i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return super.equals(o);
+    }
+}
@@ -0,0 +1,159 @@
+package com.endava.internship.collections;
+
+import java.util.*;
+
+/**
+ * Gap buffer storage for lists that are edited around a cursor.
+ * <p>
+ * The free capacity is kept as a gap inside the array instead of at its end. Inserting or removing at the gap is
+ * O(1); an edit elsewhere first moves the gap there, copying only the elements between the old and the new position.
+ * A run of edits near the same place therefore costs O(1) amortized, while random positions cost like
+ * {@link StudentList}. Created through {@link StudentList#newList(StudentList.Storage)}.
+ */
+public class GapStudentList<E> extends AbstractList<E> implements RandomAccess {
+    private final static int DEFAULT_CAPACITY = 10;
+    private Object[] objectsArray;
+    private int gapStart = 0;
+    private int gapEnd;
+
+    public GapStudentList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public GapStudentList(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Illegal Capacity: " + capacity);
+        }
+        objectsArray = new Object[capacity];
+        gapEnd = capacity;
+    }
+
+    public GapStudentList(Collection<E> objectsCollection) {
+        this(objectsCollection.size() + DEFAULT_CAPACITY);
+        addAll(objectsCollection);
+    }
+
+    @Override
+    public int size() {
+        return objectsArray.length - (gapEnd - gapStart);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E get(int i) {
+        indexInRange(i, size() - 1);
+        return (E) objectsArray[physical(i)];
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E set(int i, E object) {
+        indexInRange(i, size() - 1);
+        int p = physical(i);
+        Object replacedObject = objectsArray[p];
+        objectsArray[p] = object;
+        return (E) replacedObject;
+    }
+
+    @Override
+    public void add(int i, E object) {
+        indexInRange(i, size());
+        if (gapStart == gapEnd) {
+            grow();
+        }
+        moveGap(i);
+        objectsArray[gapStart++] = object;
+        modCount++;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E remove(int i) {
+        indexInRange(i, size() - 1);
+        moveGap(i);
+        Object removedObject = objectsArray[gapEnd];
+        objectsArray[gapEnd++] = null;
+        modCount++;
+        return (E) removedObject;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(objectsArray, null);
+        gapStart = 0;
+        gapEnd = objectsArray.length;
+        modCount++;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        for (int i = 0; i < gapStart; i++) {
+            if (Objects.equals(o, objectsArray[i])) {
+                return i;
+            }
+        }
+        for (int i = gapEnd; i < objectsArray.length; i++) {
+            if (Objects.equals(o, objectsArray[i])) {
+                return i - (gapEnd - gapStart);
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] a = new Object[size()];
+        System.arraycopy(objectsArray, 0, a, 0, gapStart);
+        System.arraycopy(objectsArray, gapEnd, a, gapStart, objectsArray.length - gapEnd);
+        return a;
+    }
+
+    @Override
+    public String toString() {
+        return "GapStudentList{" + "size=" + size() + ", capacity=" + objectsArray.length + ", students=" + Arrays.toString(toArray()) + '}';
+    }
+
+    private int physical(int i) {
+        return i < gapStart ? i : i + (gapEnd - gapStart);
+    }
+
+    /**
+     * Moves the gap so that it starts at logical index {@code i}, copying the elements in between as one block
+     */
+    private void moveGap(int i) {
+        if (i < gapStart) {
+            int count = gapStart - i;
+            System.arraycopy(objectsArray, i, objectsArray, gapEnd - count, count);
+            Arrays.fill(objectsArray, i, Math.min(gapStart, gapEnd - count), null);
+            gapStart = i;
+            gapEnd -= count;
+        } else if (i > gapStart) {
+            int count = i - gapStart;
+            System.arraycopy(objectsArray, gapEnd, objectsArray, gapStart, count);
+            Arrays.fill(objectsArray, Math.max(gapEnd, gapStart + count), gapEnd + count, null);
+            gapStart += count;
+            gapEnd += count;
+        }
+    }
+
+    private void grow() {
+        int tail = objectsArray.length - gapEnd;
+        int capacity = Math.max(DEFAULT_CAPACITY, objectsArray.length * 2);
+        Object[] grown = new Object[capacity];
+        System.arraycopy(objectsArray, 0, grown, 0, gapStart);
+        System.arraycopy(objectsArray, gapEnd, grown, capacity - tail, tail);
+        objectsArray = grown;
+        gapEnd = capacity - tail;
+    }
+
+    private static void indexInRange(int i, int upperLimit) {
+        if (i < 0 || i > upperLimit) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+}
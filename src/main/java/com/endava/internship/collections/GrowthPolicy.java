@@ -0,0 +1,55 @@
+package com.endava.internship.collections;
+
+/**
+ * Decides how much a {@link StudentList} grows when its backing array is full
+ */
+@FunctionalInterface
+public interface GrowthPolicy {
+    int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    /**
+     * Returns the new capacity for an array of {@code capacity} slots that has to hold {@code required} elements;
+     * the result is never smaller than {@code required}
+     */
+    int grow(int capacity, int required);
+
+    static GrowthPolicy doubling() {
+        return Policies.DOUBLING;
+    }
+
+    static GrowthPolicy factor(double factor) {
+        if (!(factor > 1)) {
+            throw new IllegalArgumentException("Illegal growth factor: " + factor);
+        }
+        return (capacity, required) -> Policies.atLeast(required, (long) (capacity * factor));
+    }
+
+    static GrowthPolicy fixedIncrement(int increment) {
+        if (increment <= 0) {
+            throw new IllegalArgumentException("Illegal growth increment: " + increment);
+        }
+        return (capacity, required) -> Policies.atLeast(required, (long) capacity + increment);
+    }
+
+    /**
+     * Limits the growth of {@code policy} to at most {@code maxIncrement} slots at a time
+     */
+    static GrowthPolicy capped(GrowthPolicy policy, int maxIncrement) {
+        if (maxIncrement <= 0) {
+            throw new IllegalArgumentException("Illegal growth increment: " + maxIncrement);
+        }
+        return (capacity, required) ->
+                Policies.atLeast(required, Math.min(policy.grow(capacity, required), (long) capacity + maxIncrement));
+    }
+
+    final class Policies {
+        private static final GrowthPolicy DOUBLING = factor(2);
+
+        private Policies() {
+        }
+
+        private static int atLeast(int required, long capacity) {
+            return (int) Math.max(required, Math.min(capacity, MAX_CAPACITY));
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.endava.internship.collections;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Secondary hash index of a {@link StudentList}: how many times each element occurs and where it occurs first.
+ * <p>
+ * Counts are kept exact on every change, so membership is O(1). First positions are updated in place when elements
+ * are appended or removed from the end; any change that shifts or reorders elements only marks them stale, and they
+ * are rebuilt with one scan by the next {@link #indexOf(Object, Object[], int)}. Elements must have a hashCode
+ * consistent with equals.
+ */
+final class HashIndex {
+    private final Map<Object, Integer> counts = new HashMap<>();
+    private final Map<Object, Integer> firstPositions = new HashMap<>();
+    private boolean positionsValid = true;
+
+    HashIndex(Object[] objectsArray, int size) {
+        rebuild(objectsArray, size);
+    }
+
+    boolean contains(Object o) {
+        return counts.containsKey(o);
+    }
+
+    int indexOf(Object o, Object[] objectsArray, int size) {
+        if (!counts.containsKey(o)) {
+            return -1;
+        }
+        if (!positionsValid) {
+            rebuildPositions(objectsArray, size);
+        }
+        return firstPositions.get(o);
+    }
+
+    void appended(Object o, int position) {
+        increment(o);
+        if (positionsValid) {
+            firstPositions.putIfAbsent(o, position);
+        }
+    }
+
+    void inserted(Object o) {
+        increment(o);
+        positionsValid = false;
+    }
+
+    void removed(Object o, int position, boolean shifted) {
+        decrement(o);
+        if (shifted) {
+            positionsValid = false;
+        } else if (positionsValid) {
+            firstPositions.remove(o, position);
+        }
+    }
+
+    void replaced(Object old, Object o, int position) {
+        if (Objects.equals(old, o)) {
+            return;
+        }
+        decrement(old);
+        increment(o);
+        if (positionsValid) {
+            if (firstPositions.remove(old, position) && counts.containsKey(old)) {
+                positionsValid = false;
+                return;
+            }
+            Integer first = firstPositions.get(o);
+            if (first == null || first > position) {
+                firstPositions.put(o, position);
+            }
+        }
+    }
+
+    void moved() {
+        positionsValid = false;
+    }
+
+    void cleared() {
+        counts.clear();
+        firstPositions.clear();
+        positionsValid = true;
+    }
+
+    void rebuild(Object[] objectsArray, int size) {
+        counts.clear();
+        for (int i = 0; i < size; i++) {
+            increment(objectsArray[i]);
+        }
+        rebuildPositions(objectsArray, size);
+    }
+
+    private void rebuildPositions(Object[] objectsArray, int size) {
+        firstPositions.clear();
+        for (int i = 0; i < size; i++) {
+            firstPositions.putIfAbsent(objectsArray[i], i);
+        }
+        positionsValid = true;
+    }
+
+    private void increment(Object o) {
+        counts.merge(o, 1, Integer::sum);
+    }
+
+    private void decrement(Object o) {
+        Integer count = counts.get(o);
+        if (count == 1) {
+            counts.remove(o);
+        } else {
+            counts.put(o, count - 1);
+        }
+    }
+}
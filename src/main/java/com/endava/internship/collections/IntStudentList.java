@@ -0,0 +1,292 @@
+package com.endava.internship.collections;
+
+import java.util.*;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * {@link StudentList} counterpart that keeps {@code int} values in a {@code int[]} without boxing them.
+ * <p>
+ * It grows through a {@link GrowthPolicy} like StudentList, its iterators and sub-lists fail fast on structural
+ * changes, and {@link #stream()} exposes the values as an {@link IntStream}. {@link #asList()} is a boxing
+ * {@code List<Integer>} view for APIs that need one.
+ */
+public class IntStudentList extends PrimitiveList<int[]> {
+
+    public IntStudentList() {
+        super(new int[DEFAULT_CAPACITY], GrowthPolicy.doubling());
+    }
+
+    public IntStudentList(int capacity) {
+        this(capacity, GrowthPolicy.doubling());
+    }
+
+    public IntStudentList(int capacity, GrowthPolicy growthPolicy) {
+        super(new int[initialCapacity(capacity)], growthPolicy);
+    }
+
+    public static IntStudentList of(int... values) {
+        IntStudentList list = new IntStudentList(values.length);
+        list.addAll(values);
+        return list;
+    }
+
+    @Override
+    int length(int[] values) {
+        return values.length;
+    }
+
+    @Override
+    int[] copyOf(int[] values, int newLength) {
+        return Arrays.copyOf(values, newLength);
+    }
+
+    public int get(int i) {
+        indexInRange(i, size - 1);
+        return values[i];
+    }
+
+    public int set(int i, int value) {
+        indexInRange(i, size - 1);
+        int replaced = values[i];
+        values[i] = value;
+        return replaced;
+    }
+
+    public boolean add(int value) {
+        checkCapacity(1);
+        values[size++] = value;
+        modCount++;
+        return true;
+    }
+
+    public void add(int i, int value) {
+        indexInRange(i, size);
+        openGap(i, 1);
+        values[i] = value;
+    }
+
+    public boolean addAll(int... added) {
+        if (added.length == 0) {
+            return false;
+        }
+        int at = size;
+        openGap(at, added.length);
+        System.arraycopy(added, 0, values, at, added.length);
+        return true;
+    }
+
+    public int removeAt(int i) {
+        indexInRange(i, size - 1);
+        int removed = values[i];
+        closeGap(i, 1);
+        return removed;
+    }
+
+    /**
+     * Removes the matching values in one pass, moving every kept value at most once; if the filter throws, the
+     * values it already matched stay removed
+     */
+    public boolean removeIf(IntPredicate filter) {
+        return removeIf(filter, 0, size) > 0;
+    }
+
+    private int removeIf(IntPredicate filter, int start, int end) {
+        Objects.requireNonNull(filter);
+        int w = start;
+        int r = start;
+        try {
+            for (; r < end; r++) {
+                if (!filter.test(values[r])) {
+                    values[w++] = values[r];
+                }
+            }
+        } finally {
+            w = compact(r, w, end);
+        }
+        return end - w;
+    }
+
+    public int indexOf(int value) {
+        return indexOfRange(value, 0, size);
+    }
+
+    public int lastIndexOf(int value) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public boolean contains(int value) {
+        return indexOf(value) >= 0;
+    }
+
+    private int indexOfRange(int value, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public long sum() {
+        return sumRange(0, size);
+    }
+
+    private long sumRange(int start, int end) {
+        long sum = 0;
+        for (int i = start; i < end; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Stream over the current values; like any stream over a live collection it must not outlive changes to the list
+     */
+    public IntStream stream() {
+        return Arrays.stream(values, 0, size);
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    public PrimitiveIterator.OfInt iterator() {
+        return new ValueIterator(0, size);
+    }
+
+    public IntStudentList.SubList subList(int i, int i1) {
+        checkRange(i, i1, size);
+        return new SubList(i, i1);
+    }
+
+    public List<Integer> asList() {
+        return new IntView();
+    }
+
+    @Override
+    public String toString() {
+        return "IntStudentList{" + "size=" + size + ", capacity=" + values.length + ", values=" + Arrays.toString(toArray()) + '}';
+    }
+
+    private class ValueIterator extends Cursor implements PrimitiveIterator.OfInt {
+
+        ValueIterator(int start, int end) {
+            super(start, end);
+        }
+
+        @Override
+        public int nextInt() {
+            return values[nextIndex()];
+        }
+    }
+
+    /**
+     * View of a range of the list. Changes made through it, structural ones included, write through to the list; it
+     * fails fast once the list is structurally changed any other way.
+     */
+    public class SubList extends Range {
+
+        private SubList(int fromIndex, int toIndex) {
+            super(fromIndex, toIndex);
+        }
+
+        public int get(int index) {
+            return values[at(index)];
+        }
+
+        public int set(int index, int value) {
+            int i = at(index);
+            int replaced = values[i];
+            values[i] = value;
+            return replaced;
+        }
+
+        public boolean add(int value) {
+            add(size, value);
+            return true;
+        }
+
+        public void add(int index, int value) {
+            IntStudentList.this.add(insertionPoint(index), value);
+            changed(1);
+        }
+
+        public int removeAt(int index) {
+            int removed = IntStudentList.this.removeAt(at(index));
+            changed(-1);
+            return removed;
+        }
+
+        public boolean removeIf(IntPredicate filter) {
+            checkForComodification();
+            int rootSize = IntStudentList.this.size;
+            try {
+                return IntStudentList.this.removeIf(filter, offset, offset + size) > 0;
+            } finally {
+                changed(IntStudentList.this.size - rootSize);
+            }
+        }
+
+        public int indexOf(int value) {
+            checkForComodification();
+            int index = indexOfRange(value, offset, offset + size);
+            return index >= 0 ? index - offset : -1;
+        }
+
+        public boolean contains(int value) {
+            return indexOf(value) >= 0;
+        }
+
+        public long sum() {
+            checkForComodification();
+            return sumRange(offset, offset + size);
+        }
+
+        public IntStream stream() {
+            checkForComodification();
+            return Arrays.stream(values, offset, offset + size);
+        }
+
+        public int[] toArray() {
+            checkForComodification();
+            return Arrays.copyOfRange(values, offset, offset + size);
+        }
+
+        public PrimitiveIterator.OfInt iterator() {
+            checkForComodification();
+            return new ValueIterator(offset, offset + size);
+        }
+    }
+
+    private class IntView extends BoxedView<Integer> {
+
+        @Override
+        public Integer get(int index) {
+            return IntStudentList.this.get(index);
+        }
+
+        @Override
+        public Integer set(int index, Integer element) {
+            return IntStudentList.this.set(index, element);
+        }
+
+        @Override
+        public void add(int index, Integer element) {
+            IntStudentList.this.add(index, element);
+            changed();
+        }
+
+        @Override
+        public Integer remove(int index) {
+            Integer removed = removeAt(index);
+            changed();
+            return removed;
+        }
+    }
+}
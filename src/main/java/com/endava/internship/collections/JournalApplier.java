@@ -0,0 +1,83 @@
+package com.endava.internship.collections;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Replays {@link StudentJournal} deltas onto a replica {@link StudentList}.
+ * <p>
+ * The applier remembers the last sequence number it applied: deltas at or below it are skipped, so redelivery is
+ * harmless, while a gap in the sequence means the replica has missed changes and is reported as an
+ * {@link IllegalStateException} before anything is applied.
+ */
+public class JournalApplier<E> {
+    private final StudentList<E> replica;
+    private long appliedSequence;
+
+    public JournalApplier(StudentList<E> replica) {
+        this(replica, 0);
+    }
+
+    /**
+     * Applier for a replica that already holds the state of the source after {@code appliedSequence}
+     */
+    public JournalApplier(StudentList<E> replica, long appliedSequence) {
+        this.replica = replica;
+        this.appliedSequence = appliedSequence;
+    }
+
+    public long appliedSequence() {
+        return appliedSequence;
+    }
+
+    public void applyAll(Collection<? extends StudentJournal.Delta<E>> deltas) {
+        for (StudentJournal.Delta<E> delta : deltas) {
+            apply(delta);
+        }
+    }
+
+    /**
+     * Applies the delta, returning false if it had already been applied
+     */
+    @SuppressWarnings("unchecked")
+    public boolean apply(StudentJournal.Delta<E> delta) {
+        if (delta.sequence() <= appliedSequence) {
+            return false;
+        } else if (delta.sequence() != appliedSequence + 1) {
+            throw new IllegalStateException("Expected delta " + (appliedSequence + 1) + " but got " + delta.sequence());
+        }
+
+        Object[] elements = delta.elementArray();
+        switch (delta.operation()) {
+            case INSERT:
+                if (delta.count() == 1) {
+                    replica.add(delta.index(), (E) elements[0]);
+                } else {
+                    replica.addAll(delta.index(), (Collection<? extends E>) Arrays.asList(elements));
+                }
+                break;
+            case SET:
+                for (int k = 0; k < elements.length; k++) {
+                    replica.set(delta.index() + k, (E) elements[k]);
+                }
+                break;
+            case REMOVE:
+                replica.removeRange(delta.index(), delta.index() + delta.count());
+                break;
+            case REMOVE_POSITIONS:
+                replica.removePositions(delta.positionArray());
+                break;
+            case CLEAR:
+                replica.clear();
+                break;
+            case RESET:
+                replica.clear();
+                replica.addAll((Collection<? extends E>) Arrays.asList(elements));
+                break;
+            default:
+                throw new IllegalStateException("Unknown operation: " + delta.operation());
+        }
+        appliedSequence = delta.sequence();
+        return true;
+    }
+}
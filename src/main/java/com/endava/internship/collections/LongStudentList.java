@@ -0,0 +1,292 @@
+package com.endava.internship.collections;
+
+import java.util.*;
+import java.util.function.LongPredicate;
+import java.util.stream.LongStream;
+
+/**
+ * {@link StudentList} counterpart that keeps {@code long} values in a {@code long[]} without boxing them.
+ * <p>
+ * It grows through a {@link GrowthPolicy} like StudentList, its iterators and sub-lists fail fast on structural
+ * changes, and {@link #stream()} exposes the values as an {@link LongStream}. {@link #asList()} is a boxing
+ * {@code List<Long>} view for APIs that need one.
+ */
+public class LongStudentList extends PrimitiveList<long[]> {
+
+    public LongStudentList() {
+        super(new long[DEFAULT_CAPACITY], GrowthPolicy.doubling());
+    }
+
+    public LongStudentList(int capacity) {
+        this(capacity, GrowthPolicy.doubling());
+    }
+
+    public LongStudentList(int capacity, GrowthPolicy growthPolicy) {
+        super(new long[initialCapacity(capacity)], growthPolicy);
+    }
+
+    public static LongStudentList of(long... values) {
+        LongStudentList list = new LongStudentList(values.length);
+        list.addAll(values);
+        return list;
+    }
+
+    @Override
+    int length(long[] values) {
+        return values.length;
+    }
+
+    @Override
+    long[] copyOf(long[] values, int newLength) {
+        return Arrays.copyOf(values, newLength);
+    }
+
+    public long get(int i) {
+        indexInRange(i, size - 1);
+        return values[i];
+    }
+
+    public long set(int i, long value) {
+        indexInRange(i, size - 1);
+        long replaced = values[i];
+        values[i] = value;
+        return replaced;
+    }
+
+    public boolean add(long value) {
+        checkCapacity(1);
+        values[size++] = value;
+        modCount++;
+        return true;
+    }
+
+    public void add(int i, long value) {
+        indexInRange(i, size);
+        openGap(i, 1);
+        values[i] = value;
+    }
+
+    public boolean addAll(long... added) {
+        if (added.length == 0) {
+            return false;
+        }
+        int at = size;
+        openGap(at, added.length);
+        System.arraycopy(added, 0, values, at, added.length);
+        return true;
+    }
+
+    public long removeAt(int i) {
+        indexInRange(i, size - 1);
+        long removed = values[i];
+        closeGap(i, 1);
+        return removed;
+    }
+
+    /**
+     * Removes the matching values in one pass, moving every kept value at most once; if the filter throws, the
+     * values it already matched stay removed
+     */
+    public boolean removeIf(LongPredicate filter) {
+        return removeIf(filter, 0, size) > 0;
+    }
+
+    private int removeIf(LongPredicate filter, int start, int end) {
+        Objects.requireNonNull(filter);
+        int w = start;
+        int r = start;
+        try {
+            for (; r < end; r++) {
+                if (!filter.test(values[r])) {
+                    values[w++] = values[r];
+                }
+            }
+        } finally {
+            w = compact(r, w, end);
+        }
+        return end - w;
+    }
+
+    public int indexOf(long value) {
+        return indexOfRange(value, 0, size);
+    }
+
+    public int lastIndexOf(long value) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public boolean contains(long value) {
+        return indexOf(value) >= 0;
+    }
+
+    private int indexOfRange(long value, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public long sum() {
+        return sumRange(0, size);
+    }
+
+    private long sumRange(int start, int end) {
+        long sum = 0;
+        for (int i = start; i < end; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Stream over the current values; like any stream over a live collection it must not outlive changes to the list
+     */
+    public LongStream stream() {
+        return Arrays.stream(values, 0, size);
+    }
+
+    public long[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    public PrimitiveIterator.OfLong iterator() {
+        return new ValueIterator(0, size);
+    }
+
+    public LongStudentList.SubList subList(int i, int i1) {
+        checkRange(i, i1, size);
+        return new SubList(i, i1);
+    }
+
+    public List<Long> asList() {
+        return new LongView();
+    }
+
+    @Override
+    public String toString() {
+        return "LongStudentList{" + "size=" + size + ", capacity=" + values.length + ", values=" + Arrays.toString(toArray()) + '}';
+    }
+
+    private class ValueIterator extends Cursor implements PrimitiveIterator.OfLong {
+
+        ValueIterator(int start, int end) {
+            super(start, end);
+        }
+
+        @Override
+        public long nextLong() {
+            return values[nextIndex()];
+        }
+    }
+
+    /**
+     * View of a range of the list. Changes made through it, structural ones included, write through to the list; it
+     * fails fast once the list is structurally changed any other way.
+     */
+    public class SubList extends Range {
+
+        private SubList(int fromIndex, int toIndex) {
+            super(fromIndex, toIndex);
+        }
+
+        public long get(int index) {
+            return values[at(index)];
+        }
+
+        public long set(int index, long value) {
+            int i = at(index);
+            long replaced = values[i];
+            values[i] = value;
+            return replaced;
+        }
+
+        public boolean add(long value) {
+            add(size, value);
+            return true;
+        }
+
+        public void add(int index, long value) {
+            LongStudentList.this.add(insertionPoint(index), value);
+            changed(1);
+        }
+
+        public long removeAt(int index) {
+            long removed = LongStudentList.this.removeAt(at(index));
+            changed(-1);
+            return removed;
+        }
+
+        public boolean removeIf(LongPredicate filter) {
+            checkForComodification();
+            int rootSize = LongStudentList.this.size;
+            try {
+                return LongStudentList.this.removeIf(filter, offset, offset + size) > 0;
+            } finally {
+                changed(LongStudentList.this.size - rootSize);
+            }
+        }
+
+        public int indexOf(long value) {
+            checkForComodification();
+            int index = indexOfRange(value, offset, offset + size);
+            return index >= 0 ? index - offset : -1;
+        }
+
+        public boolean contains(long value) {
+            return indexOf(value) >= 0;
+        }
+
+        public long sum() {
+            checkForComodification();
+            return sumRange(offset, offset + size);
+        }
+
+        public LongStream stream() {
+            checkForComodification();
+            return Arrays.stream(values, offset, offset + size);
+        }
+
+        public long[] toArray() {
+            checkForComodification();
+            return Arrays.copyOfRange(values, offset, offset + size);
+        }
+
+        public PrimitiveIterator.OfLong iterator() {
+            checkForComodification();
+            return new ValueIterator(offset, offset + size);
+        }
+    }
+
+    private class LongView extends BoxedView<Long> {
+
+        @Override
+        public Long get(int index) {
+            return LongStudentList.this.get(index);
+        }
+
+        @Override
+        public Long set(int index, Long element) {
+            return LongStudentList.this.set(index, element);
+        }
+
+        @Override
+        public void add(int index, Long element) {
+            LongStudentList.this.add(index, element);
+            changed();
+        }
+
+        @Override
+        public Long remove(int index) {
+            Long removed = removeAt(index);
+            changed();
+            return removed;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.endava.internship.collections;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * {@link OffHeapStudentList} whose buffers are memory-mapped files, so the roster survives restarts.
+ * <p>
+ * The file at the given path holds a 16 byte header (magic, version, size, arena end) followed by the fixed-width
+ * records; the {@code .arena} file next to it is the append log of UTF-8 strings. Opening an existing list only maps
+ * both files and reads the header, pages are faulted in as they are accessed. The header is updated after every
+ * mutation; {@link #close()} forces both mappings to disk.
+ */
+public class MappedStudentList extends OffHeapStudentList implements Closeable {
+    private final static int MAGIC = 0x53544c31;
+    private final static int VERSION = 1;
+    private final static int HEADER_SIZE = 16;
+    private final static int SIZE = 8;
+    private final static int ARENA_END = 12;
+    private final static int INITIAL_RECORDS_BYTES = 4096;
+    private final static int INITIAL_ARENA_BYTES = 16384;
+
+    private final FileChannel recordsChannel;
+    private final FileChannel arenaChannel;
+    private MappedByteBuffer header;
+    private MappedByteBuffer arenaMapping;
+
+    private MappedStudentList(FileChannel recordsChannel, FileChannel arenaChannel, MappedByteBuffer header,
+                              MappedByteBuffer arenaMapping) {
+        super(records(header), arenaMapping, header.getInt(SIZE), header.getInt(ARENA_END));
+        this.recordsChannel = recordsChannel;
+        this.arenaChannel = arenaChannel;
+        this.header = header;
+        this.arenaMapping = arenaMapping;
+    }
+
+    /**
+     * Opens the list stored at {@code path}, creating an empty one if the file does not exist
+     */
+    public static MappedStudentList open(Path path) throws IOException {
+        FileChannel recordsChannel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        FileChannel arenaChannel = null;
+        try {
+            arenaChannel = FileChannel.open(arenaPath(path), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            boolean created = recordsChannel.size() == 0;
+            MappedByteBuffer header = recordsChannel.map(FileChannel.MapMode.READ_WRITE, 0,
+                    Math.max(recordsChannel.size(), HEADER_SIZE + INITIAL_RECORDS_BYTES));
+            if (created) {
+                header.putInt(0, MAGIC);
+                header.putInt(4, VERSION);
+                header.putInt(SIZE, 0);
+                header.putInt(ARENA_END, 0);
+            } else if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+                throw new IOException("Not a student list file: " + path);
+            }
+            MappedByteBuffer arena = arenaChannel.map(FileChannel.MapMode.READ_WRITE, 0,
+                    Math.max(arenaChannel.size(), INITIAL_ARENA_BYTES));
+            return new MappedStudentList(recordsChannel, arenaChannel, header, arena);
+        } catch (IOException | RuntimeException e) {
+            recordsChannel.close();
+            if (arenaChannel != null) {
+                arenaChannel.close();
+            }
+            throw e;
+        }
+    }
+
+    static Path arenaPath(Path path) {
+        return path.resolveSibling(path.getFileName() + ".arena");
+    }
+
+    private static ByteBuffer records(MappedByteBuffer mapping) {
+        return view(mapping, HEADER_SIZE, mapping.capacity()).slice();
+    }
+
+    @Override
+    public Student set(int i, Student student) {
+        Student replaced = super.set(i, student);
+        writeHeader();
+        return replaced;
+    }
+
+    @Override
+    public void add(int i, Student student) {
+        super.add(i, student);
+        writeHeader();
+    }
+
+    @Override
+    public Student remove(int i) {
+        Student removed = super.remove(i);
+        writeHeader();
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        writeHeader();
+    }
+
+    private void writeHeader() {
+        header.putInt(SIZE, size());
+        header.putInt(ARENA_END, arenaEnd());
+    }
+
+    /**
+     * Growing remaps the larger file; the content is already there, so nothing is copied
+     */
+    @Override
+    ByteBuffer growRecords(ByteBuffer records, int used, int capacity) {
+        header = map(recordsChannel, HEADER_SIZE + (long) capacity);
+        return records(header);
+    }
+
+    @Override
+    ByteBuffer growArena(ByteBuffer arena, int used, int capacity) {
+        arenaMapping = map(arenaChannel, capacity);
+        return arenaMapping;
+    }
+
+    private static MappedByteBuffer map(FileChannel channel, long length) {
+        try {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Forces both mappings to disk and closes the files. The mappings themselves are released by the garbage collector.
+     */
+    @Override
+    public void close() throws IOException {
+        header.force();
+        arenaMapping.force();
+        try {
+            recordsChannel.close();
+        } finally {
+            arenaChannel.close();
+        }
+    }
+}
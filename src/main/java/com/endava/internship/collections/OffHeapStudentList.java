@@ -0,0 +1,354 @@
+package com.endava.internship.collections;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * List of students serialized into direct memory, so that huge rosters put almost nothing on the Java heap.
+ * <p>
+ * Every element is a fixed-width record in the header buffer: epoch day of the date of birth, then offset and length
+ * of the UTF-8 name and of the UTF-8 details in the string arena. Inserting or removing shifts the records only;
+ * strings are appended to the arena and their space is reclaimed by {@link #clear()}. {@link Student} objects are
+ * created by {@link #get(int)}, while the {@code ...At} accessors and {@link #indexOf(Object)} read the records in
+ * place. Null elements are not supported, and neither are dates of birth whose epoch day does not fit in an int; a
+ * rejected student leaves the list unchanged. Records and strings each live in one direct buffer, which caps a list at
+ * {@link #MAX_CAPACITY} records (about 107 million) and 2 GB of strings.
+ */
+public class OffHeapStudentList extends AbstractList<Student> implements RandomAccess {
+    private final static int DEFAULT_CAPACITY = 10;
+    private final static int RECORD_SIZE = 20;
+    private final static int EPOCH_DAY = 0;
+    private final static int NAME_OFFSET = 4;
+    private final static int NAME_LENGTH = 8;
+    private final static int DETAILS_OFFSET = 12;
+    private final static int DETAILS_LENGTH = 16;
+    private final static int NO_STRING = -1;
+    private final static int NO_DATE = Integer.MIN_VALUE;
+    private final static int MAX_BUFFER_BYTES = Integer.MAX_VALUE;
+    private final static int MOVE_CHUNK = 64 * 1024;
+
+    /**
+     * Most records that fit in one direct buffer
+     */
+    public final static int MAX_CAPACITY = MAX_BUFFER_BYTES / RECORD_SIZE;
+
+    private int size = 0;
+    private ByteBuffer records;
+    private ByteBuffer arena;
+    private byte[] scratch;
+
+    public OffHeapStudentList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public OffHeapStudentList(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Illegal Capacity: " + capacity);
+        } else if (capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity " + capacity + " exceeds the maximum of " + MAX_CAPACITY + " records");
+        }
+        records = ByteBuffer.allocateDirect(capacity * RECORD_SIZE);
+        arena = ByteBuffer.allocateDirect((int) Math.min((long) capacity * 16, MAX_BUFFER_BYTES));
+    }
+
+    public OffHeapStudentList(Collection<? extends Student> students) {
+        this(students.size());
+        addAll(students);
+    }
+
+    /**
+     * Adopts buffers that already hold {@code size} records and {@code arenaEnd} bytes of strings
+     */
+    OffHeapStudentList(ByteBuffer records, ByteBuffer arena, int size, int arenaEnd) {
+        this.records = records;
+        this.arena = arena;
+        this.size = size;
+        ((Buffer) arena).position(arenaEnd);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Student get(int i) {
+        indexInRange(i, size - 1);
+        int record = i * RECORD_SIZE;
+        return new Student(readString(record + NAME_OFFSET), readDate(record), readString(record + DETAILS_OFFSET));
+    }
+
+    public String nameAt(int i) {
+        indexInRange(i, size - 1);
+        return readString(i * RECORD_SIZE + NAME_OFFSET);
+    }
+
+    public LocalDate dateOfBirthAt(int i) {
+        indexInRange(i, size - 1);
+        return readDate(i * RECORD_SIZE);
+    }
+
+    public String detailsAt(int i) {
+        indexInRange(i, size - 1);
+        return readString(i * RECORD_SIZE + DETAILS_OFFSET);
+    }
+
+    /**
+     * Bytes of direct memory currently reserved by the records and the string arena
+     */
+    public long offHeapBytes() {
+        return (long) records.capacity() + arena.capacity();
+    }
+
+    @Override
+    public Student set(int i, Student student) {
+        Student replaced = get(i);
+        write(i * RECORD_SIZE, encode(student));
+        return replaced;
+    }
+
+    @Override
+    public void add(int i, Student student) {
+        Objects.requireNonNull(student);
+        indexInRange(i, size);
+        ensureRecordCapacity(size + 1);
+        Record record = encode(student);
+
+        moveRecords(i, i + 1, size - i);
+        write(i * RECORD_SIZE, record);
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public Student remove(int i) {
+        Student removed = get(i);
+
+        moveRecords(i + 1, i, size - i - 1);
+        size--;
+        modCount++;
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        ((Buffer) arena).clear();
+        modCount++;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        if (!(o instanceof Student)) {
+            return -1;
+        }
+        Student student = (Student) o;
+        if (student.getDateOfBirth() != null && !fits(student.getDateOfBirth())) {
+            return -1;
+        }
+        int epochDay = toEpochDay(student.getDateOfBirth());
+        byte[] name = student.getName() == null ? null : student.getName().getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < size; i++) {
+            int record = i * RECORD_SIZE;
+            if (records.getInt(record + EPOCH_DAY) == epochDay && stringEquals(record + NAME_OFFSET, name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * Encodes the student and reserves arena space for its strings, so that everything that can fail does so before
+     * any record is moved or overwritten
+     */
+    private Record encode(Student student) {
+        Objects.requireNonNull(student);
+        Record record = new Record(toEpochDay(student.getDateOfBirth()), bytes(student.getName()),
+                bytes(student.getDetails()));
+        ensureArenaCapacity((long) length(record.name) + length(record.details));
+        return record;
+    }
+
+    private static byte[] bytes(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int length(byte[] bytes) {
+        return bytes == null ? 0 : bytes.length;
+    }
+
+    private void write(int record, Record encoded) {
+        records.putInt(record + EPOCH_DAY, encoded.epochDay);
+        writeString(record + NAME_OFFSET, encoded.name);
+        writeString(record + DETAILS_OFFSET, encoded.details);
+    }
+
+    private void writeString(int field, byte[] bytes) {
+        if (bytes == null) {
+            records.putInt(field, NO_STRING);
+            records.putInt(field + 4, 0);
+            return;
+        }
+        records.putInt(field, arena.position());
+        records.putInt(field + 4, bytes.length);
+        arena.put(bytes);
+    }
+
+    private String readString(int field) {
+        int offset = records.getInt(field);
+        if (offset == NO_STRING) {
+            return null;
+        }
+        byte[] bytes = new byte[records.getInt(field + 4)];
+        view(arena, offset, offset + bytes.length).get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private boolean stringEquals(int field, byte[] value) {
+        int offset = records.getInt(field);
+        if (offset == NO_STRING || value == null) {
+            return offset == NO_STRING && value == null;
+        }
+        if (records.getInt(field + 4) != value.length) {
+            return false;
+        }
+        for (int k = 0; k < value.length; k++) {
+            if (arena.get(offset + k) != value[k]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private LocalDate readDate(int record) {
+        int epochDay = records.getInt(record + EPOCH_DAY);
+        return epochDay == NO_DATE ? null : LocalDate.ofEpochDay(epochDay);
+    }
+
+    /**
+     * Epoch day of the date, which must fit in the int field next to the {@link #NO_DATE} marker
+     */
+    private static int toEpochDay(LocalDate date) {
+        if (date == null) {
+            return NO_DATE;
+        } else if (!fits(date)) {
+            throw new IllegalArgumentException("Date of birth out of range: " + date);
+        }
+        return (int) date.toEpochDay();
+    }
+
+    private static boolean fits(LocalDate date) {
+        return date.toEpochDay() > NO_DATE && date.toEpochDay() <= Integer.MAX_VALUE;
+    }
+
+    /**
+     * Moves {@code count} records from index {@code from} to index {@code to} through a reusable scratch buffer,
+     * chunk by chunk and starting from the end that the overlap leaves safe to overwrite
+     */
+    private void moveRecords(int from, int to, int count) {
+        if (count <= 0) {
+            return;
+        }
+        if (scratch == null) {
+            scratch = new byte[MOVE_CHUNK];
+        }
+        int source = from * RECORD_SIZE;
+        int target = to * RECORD_SIZE;
+        int remaining = count * RECORD_SIZE;
+        while (remaining > 0) {
+            int chunk = Math.min(remaining, MOVE_CHUNK);
+            int offset = to < from ? count * RECORD_SIZE - remaining : remaining - chunk;
+            view(records, source + offset, source + offset + chunk).get(scratch, 0, chunk);
+            view(records, target + offset, target + offset + chunk).put(scratch, 0, chunk);
+            remaining -= chunk;
+        }
+    }
+
+    int arenaEnd() {
+        return arena.position();
+    }
+
+    /**
+     * Sizes are computed in long and the growth is clamped to the largest buffer, so that the list fills up to
+     * {@link #MAX_CAPACITY} records before failing
+     */
+    private void ensureRecordCapacity(int min) {
+        if ((long) min * RECORD_SIZE > records.capacity()) {
+            if (min > MAX_CAPACITY || min < 0) {
+                throw new IllegalStateException("OffHeapStudentList is full: at most " + MAX_CAPACITY + " records fit in one buffer");
+            }
+            long capacity = Math.min(Math.max(min, (long) records.capacity() / RECORD_SIZE * 2), MAX_CAPACITY);
+            records = growRecords(records, size * RECORD_SIZE, (int) capacity * RECORD_SIZE);
+        }
+    }
+
+    private void ensureArenaCapacity(long bytes) {
+        if (arena.remaining() < bytes) {
+            long required = (long) arena.position() + bytes;
+            if (required > MAX_BUFFER_BYTES) {
+                throw new IllegalStateException("String arena is full: " + required + " bytes exceed the maximum of "
+                        + MAX_BUFFER_BYTES + "; clear() reclaims the space of replaced strings");
+            }
+            long capacity = Math.min(Math.max(required, (long) arena.capacity() * 2), MAX_BUFFER_BYTES);
+            int end = arena.position();
+            arena = growArena(arena, end, (int) capacity);
+            ((Buffer) arena).position(end);
+        }
+    }
+
+    /**
+     * Returns a buffer of {@code capacity} bytes starting with the first {@code used} bytes of {@code records}
+     */
+    ByteBuffer growRecords(ByteBuffer records, int used, int capacity) {
+        return copyInto(ByteBuffer.allocateDirect(capacity), records, used);
+    }
+
+    /**
+     * Returns a buffer of {@code capacity} bytes starting with the first {@code used} bytes of {@code arena}
+     */
+    ByteBuffer growArena(ByteBuffer arena, int used, int capacity) {
+        return copyInto(ByteBuffer.allocateDirect(capacity), arena, used);
+    }
+
+    private static ByteBuffer copyInto(ByteBuffer target, ByteBuffer source, int used) {
+        target.put(view(source, 0, used));
+        return target;
+    }
+
+    /**
+     * Independent view of [position, limit) of the buffer. Positioning goes through {@link Buffer}, whose methods
+     * ByteBuffer only overrides since Java 9, so the class still links on Java 8
+     */
+    static ByteBuffer view(ByteBuffer buffer, int position, int limit) {
+        ByteBuffer view = buffer.duplicate();
+        ((Buffer) view).limit(limit);
+        ((Buffer) view).position(position);
+        return view;
+    }
+
+    private static void indexInRange(int i, int upperLimit) {
+        if (i < 0 || i > upperLimit) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    private static final class Record {
+        private final int epochDay;
+        private final byte[] name;
+        private final byte[] details;
+
+        private Record(int epochDay, byte[] name, byte[] details) {
+            this.epochDay = epochDay;
+            this.name = name;
+            this.details = details;
+        }
+    }
+}
@@ -0,0 +1,467 @@
+package com.endava.internship.collections;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Persistent list for keeping many versions of a roster: {@link #with(int, Object)}, {@link #plus(Object)},
+ * {@link #minusLast()} and the other versioned updates leave this list untouched and return a new version that shares
+ * all but O(log n) of its structure with it.
+ * <p>
+ * Elements are kept in a trie of 32-slot nodes, with the last up to 32 elements in a separate tail array, so that
+ * {@link #get(int)} walks at most log<sub>32</sub>(n) levels (four for a million students), appending usually copies
+ * only the tail and setting an element copies only the nodes on its path. Inserting or removing anywhere but at the
+ * end cannot shift a trie in place, so {@link #plus(int, Object)} and {@link #minus(int)} rebuild the part after the
+ * index and cost O(n - index).
+ * <p>
+ * Instances are immutable and can be shared between threads. The {@link java.util.List} mutators throw
+ * {@link UnsupportedOperationException}; bulk loads go through a {@link Builder}, which edits its own nodes in place.
+ */
+public final class PersistentStudentList<E> extends ImmutableList<E> implements RandomAccess {
+    private final static int BITS = 5;
+    private final static int WIDTH = 1 << BITS;
+    private final static int MASK = WIDTH - 1;
+    private final static Node EMPTY_NODE = new Node(null, new Object[WIDTH]);
+    private final static PersistentStudentList<?> EMPTY = new PersistentStudentList<>(0, BITS, EMPTY_NODE, new Object[0]);
+
+    private final int size;
+    private final int shift;
+    private final Node root;
+    private final Object[] tail;
+
+    /**
+     * Trie node; {@code owner} is the token of the builder allowed to change it in place, null once published
+     */
+    private static final class Node {
+        final Object owner;
+        final Object[] array;
+
+        Node(Object owner, Object[] array) {
+            this.owner = owner;
+            this.array = array;
+        }
+    }
+
+    private PersistentStudentList(int size, int shift, Node root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentStudentList<E> of() {
+        return (PersistentStudentList<E>) EMPTY;
+    }
+
+    /**
+     * Persistent list with the elements of the collection; a persistent list is returned unchanged
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentStudentList<E> copyOf(Collection<? extends E> collection) {
+        if (collection instanceof PersistentStudentList) {
+            return (PersistentStudentList<E>) collection;
+        }
+        Builder<E> builder = builder();
+        for (E e : collection) {
+            builder.add(e);
+        }
+        return builder.build();
+    }
+
+    public static <E> Builder<E> builder() {
+        return PersistentStudentList.<E>of().toBuilder();
+    }
+
+    /**
+     * Builder starting from this version, which it shares until it changes
+     */
+    public Builder<E> toBuilder() {
+        return new Builder<>(this);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return (E) leafFor(index)[index & MASK];
+    }
+
+    /**
+     * New version with {@code element} at {@code index}
+     */
+    public PersistentStudentList<E> with(int index, E element) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (index >= tailOffset(size)) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = element;
+            return new PersistentStudentList<>(size, shift, root, newTail);
+        }
+        return new PersistentStudentList<>(size, shift, assoc(null, shift, root, index, element), tail);
+    }
+
+    /**
+     * New version with {@code element} appended
+     */
+    public PersistentStudentList<E> plus(E element) {
+        if (size - tailOffset(size) < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = element;
+            return new PersistentStudentList<>(size + 1, shift, root, newTail);
+        }
+        Node tailNode = new Node(null, tail);
+        int newShift = shift;
+        Node newRoot;
+        if ((size >>> BITS) > (1 << shift)) {
+            newRoot = new Node(null, new Object[WIDTH]);
+            newRoot.array[0] = root;
+            newRoot.array[1] = newPath(null, shift, tailNode);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(null, size, shift, root, tailNode);
+        }
+        return new PersistentStudentList<>(size + 1, newShift, newRoot, new Object[]{element});
+    }
+
+    /**
+     * New version with {@code element} inserted at {@code index}, rebuilding the elements after it
+     */
+    public PersistentStudentList<E> plus(int index, E element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (index == size) {
+            return plus(element);
+        }
+        Builder<E> builder = toBuilder().truncate(index).add(element);
+        for (int i = index; i < size; i++) {
+            builder.add(get(i));
+        }
+        return builder.build();
+    }
+
+    /**
+     * New version without the element at {@code index}, rebuilding the elements after it
+     */
+    public PersistentStudentList<E> minus(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (index == size - 1) {
+            return minusLast();
+        }
+        Builder<E> builder = toBuilder().truncate(index);
+        for (int i = index + 1; i < size; i++) {
+            builder.add(get(i));
+        }
+        return builder.build();
+    }
+
+    /**
+     * New version without the last element
+     *
+     * @throws NoSuchElementException if the list is empty
+     */
+    public PersistentStudentList<E> minusLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        } else if (size == 1) {
+            return of();
+        }
+        if (size - tailOffset(size) > 1) {
+            return new PersistentStudentList<>(size - 1, shift, root, Arrays.copyOf(tail, tail.length - 1));
+        }
+        Object[] newTail = leafFor(size - 2);
+        Node newRoot = popTail(null, size, shift, root);
+        int newShift = shift;
+        if (newRoot == null) {
+            newRoot = EMPTY_NODE;
+        } else if (shift > BITS && newRoot.array[1] == null) {
+            newRoot = (Node) newRoot.array[0];
+            newShift -= BITS;
+        }
+        return new PersistentStudentList<>(size - 1, newShift, newRoot, newTail);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        for (int base = 0; base < size; base += WIDTH) {
+            Object[] leaf = leafFor(base);
+            for (int i = 0, end = Math.min(WIDTH, size - base); i < end; i++) {
+                action.accept((E) leaf[i]);
+            }
+        }
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(this, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    private Object[] leafFor(int index) {
+        if (index >= tailOffset(size)) {
+            return tail;
+        }
+        return leafFor(root, shift, index);
+    }
+
+    private static Object[] leafFor(Node root, int shift, int index) {
+        Node node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Node) node.array[(index >>> level) & MASK];
+        }
+        return node.array;
+    }
+
+    /**
+     * Index of the first element held in the tail
+     */
+    private static int tailOffset(int size) {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    /**
+     * The node itself if {@code owner} may change it in place, otherwise a copy it may change
+     */
+    private static Node editable(Object owner, Node node) {
+        if (owner != null && node.owner == owner) {
+            return node;
+        }
+        return new Node(owner, node.array.clone());
+    }
+
+    private static Node newPath(Object owner, int level, Node node) {
+        if (level == 0) {
+            return node;
+        }
+        Node path = new Node(owner, new Object[WIDTH]);
+        path.array[0] = newPath(owner, level - BITS, node);
+        return path;
+    }
+
+    /**
+     * Hangs the full tail of a list of {@code size} elements under the trie
+     */
+    private static Node pushTail(Object owner, int size, int level, Node parent, Node tailNode) {
+        Node node = editable(owner, parent);
+        int slot = ((size - 1) >>> level) & MASK;
+        if (level == BITS) {
+            node.array[slot] = tailNode;
+        } else {
+            Node child = (Node) parent.array[slot];
+            node.array[slot] = child != null ? pushTail(owner, size, level - BITS, child, tailNode)
+                    : newPath(owner, level - BITS, tailNode);
+        }
+        return node;
+    }
+
+    /**
+     * Takes the last leaf of the trie of a list of {@code size} elements off, returning null if the node is left empty
+     */
+    private static Node popTail(Object owner, int size, int level, Node node) {
+        int slot = ((size - 2) >>> level) & MASK;
+        if (level > BITS) {
+            Node child = popTail(owner, size, level - BITS, (Node) node.array[slot]);
+            if (child == null && slot == 0) {
+                return null;
+            }
+            Node ret = editable(owner, node);
+            ret.array[slot] = child;
+            return ret;
+        } else if (slot == 0) {
+            return null;
+        }
+        Node ret = editable(owner, node);
+        ret.array[slot] = null;
+        return ret;
+    }
+
+    private static Node assoc(Object owner, int level, Node node, int index, Object element) {
+        Node ret = editable(owner, node);
+        if (level == 0) {
+            ret.array[index & MASK] = element;
+        } else {
+            int slot = (index >>> level) & MASK;
+            ret.array[slot] = assoc(owner, level - BITS, (Node) node.array[slot], index, element);
+        }
+        return ret;
+    }
+
+    /**
+     * Walks one leaf at a time instead of descending the trie for every element
+     */
+    private class Itr implements Iterator<E> {
+        private int cursor;
+        private int base = -WIDTH;
+        private Object[] leaf;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public E next() {
+            if (cursor >= size) {
+                throw new NoSuchElementException();
+            }
+            if (cursor - base == WIDTH) {
+                base = cursor;
+                leaf = leafFor(cursor);
+            }
+            return (E) leaf[cursor++ & MASK];
+        }
+    }
+
+    /**
+     * Mutable form of a {@link PersistentStudentList} for loading or changing many elements at once.
+     * <p>
+     * Nodes the builder creates are changed in place until {@link #build()}, so a bulk load copies each node once
+     * instead of once per element; nodes shared with earlier versions are copied on first change. The version
+     * returned by {@link #build()} is never affected by later changes to the builder. A builder must not be used by
+     * more than one thread at a time.
+     */
+    public static final class Builder<E> {
+        private Object owner = new Object();
+        private int size;
+        private int shift;
+        private Node root;
+        private Object[] tail;
+
+        private Builder(PersistentStudentList<E> from) {
+            size = from.size;
+            shift = from.shift;
+            root = from.root;
+            tail = Arrays.copyOf(from.tail, WIDTH);
+        }
+
+        public int size() {
+            return size;
+        }
+
+        @SuppressWarnings("unchecked")
+        public E get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException();
+            }
+            Object[] leaf = index >= tailOffset(size) ? tail : leafFor(root, shift, index);
+            return (E) leaf[index & MASK];
+        }
+
+        public Builder<E> add(E element) {
+            if (size - tailOffset(size) < WIDTH) {
+                tail[size & MASK] = element;
+                size++;
+                return this;
+            }
+            Node tailNode = new Node(owner, tail);
+            if ((size >>> BITS) > (1 << shift)) {
+                Node newRoot = new Node(owner, new Object[WIDTH]);
+                newRoot.array[0] = root;
+                newRoot.array[1] = newPath(owner, shift, tailNode);
+                root = newRoot;
+                shift += BITS;
+            } else {
+                root = pushTail(owner, size, shift, root, tailNode);
+            }
+            tail = new Object[WIDTH];
+            tail[0] = element;
+            size++;
+            return this;
+        }
+
+        public Builder<E> addAll(Collection<? extends E> collection) {
+            for (E e : collection) {
+                add(e);
+            }
+            return this;
+        }
+
+        public Builder<E> set(int index, E element) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException();
+            }
+            if (index >= tailOffset(size)) {
+                tail[index & MASK] = element;
+            } else {
+                root = assoc(owner, shift, root, index, element);
+            }
+            return this;
+        }
+
+        /**
+         * @throws NoSuchElementException if the builder is empty
+         */
+        public Builder<E> removeLast() {
+            if (size == 0) {
+                throw new NoSuchElementException();
+            } else if (size == 1) {
+                size = 0;
+                shift = BITS;
+                root = EMPTY_NODE;
+                tail[0] = null;
+                return this;
+            }
+            if (((size - 1) & MASK) > 0) {
+                tail[(size - 1) & MASK] = null;
+                size--;
+                return this;
+            }
+            Object[] newTail = leafFor(root, shift, size - 2).clone();
+            Node newRoot = popTail(owner, size, shift, root);
+            if (newRoot == null) {
+                newRoot = EMPTY_NODE;
+            } else if (shift > BITS && newRoot.array[1] == null) {
+                newRoot = (Node) newRoot.array[0];
+                shift -= BITS;
+            }
+            root = newRoot;
+            tail = newTail;
+            size--;
+            return this;
+        }
+
+        /**
+         * Removes the elements from {@code newSize} on
+         */
+        public Builder<E> truncate(int newSize) {
+            if (newSize < 0 || newSize > size) {
+                throw new IndexOutOfBoundsException();
+            }
+            while (size > newSize) {
+                removeLast();
+            }
+            return this;
+        }
+
+        /**
+         * The current contents as a persistent list; the builder can go on being used afterwards
+         */
+        public PersistentStudentList<E> build() {
+            if (size == 0) {
+                return of();
+            }
+            PersistentStudentList<E> built = new PersistentStudentList<>(size, shift, root,
+                    Arrays.copyOf(tail, size - tailOffset(size)));
+            owner = new Object();
+            return built;
+        }
+    }
+}
@@ -0,0 +1,329 @@
+package com.endava.internship.collections;
+
+import java.util.*;
+
+/**
+ * Shared part of {@link IntStudentList}, {@link LongStudentList} and {@link DoubleStudentList}: size, modCount, growth
+ * and every structural move of the backing array, which System.arraycopy does the same way for any primitive array
+ * type. The subclasses only add the typed reads, writes and scans.
+ *
+ * @param <A> the primitive array type
+ */
+abstract class PrimitiveList<A> {
+    final static int DEFAULT_CAPACITY = 10;
+    int size = 0;
+    int modCount = 0;
+    A values;
+    private final GrowthPolicy growthPolicy;
+
+    PrimitiveList(A values, GrowthPolicy growthPolicy) {
+        this.values = values;
+        this.growthPolicy = Objects.requireNonNull(growthPolicy);
+    }
+
+    abstract int length(A values);
+
+    abstract A copyOf(A values, int newLength);
+
+    static int initialCapacity(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Illegal Capacity: " + capacity);
+        }
+        return capacity;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Removes the values in [fromIndex, toIndex) with a single shift of the tail
+     */
+    public void removeRange(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex, size);
+        if (fromIndex < toIndex) {
+            closeGap(fromIndex, toIndex - fromIndex);
+        }
+    }
+
+    /**
+     * Grows the backing array once, so that {@code minCapacity} values fit without further resizing
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > length(values)) {
+            values = copyOf(values, minCapacity);
+        }
+    }
+
+    public void trimToSize() {
+        if (size < length(values)) {
+            values = copyOf(values, size);
+        }
+    }
+
+    public int capacity() {
+        return length(values);
+    }
+
+    /**
+     * Makes room for {@code count} values at {@code i}; the caller writes them
+     */
+    final void openGap(int i, int count) {
+        checkCapacity(count);
+        System.arraycopy(values, i, values, i + count, size - i);
+        size += count;
+        modCount++;
+    }
+
+    final void closeGap(int i, int count) {
+        System.arraycopy(values, i + count, values, i, size - i - count);
+        size -= count;
+        modCount++;
+    }
+
+    /**
+     * Closes the gap left between the kept values [.., w) and the unvisited ones [r, ..) by a filtering pass over
+     * [start, end), returning the new end of the range
+     */
+    final int compact(int r, int w, int end) {
+        if (r != end) {
+            System.arraycopy(values, r, values, w, end - r);
+            w += end - r;
+        }
+        if (w != end) {
+            closeGap(w, end - w);
+        }
+        return w;
+    }
+
+    final void checkCapacity(int min) {
+        if (size + min > length(values)) {
+            values = copyOf(values, growthPolicy.grow(length(values), size + min));
+        }
+    }
+
+    static void indexInRange(int i, int upperLimit) {
+        if (i < 0 || i > upperLimit) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    static void checkRange(int fromIndex, int toIndex, int size) {
+        if (fromIndex < 0 || toIndex > size) {
+            throw new IndexOutOfBoundsException();
+        } else if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * Fail-fast cursor over [start, end) that the typed iterators read the values at
+     */
+    abstract class Cursor {
+        private int cursor;
+        private final int end;
+        private final int expectedModCount = modCount;
+
+        Cursor(int start, int end) {
+            this.cursor = start;
+            this.end = end;
+        }
+
+        public boolean hasNext() {
+            return cursor < end;
+        }
+
+        final int nextIndex() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return cursor++;
+        }
+    }
+
+    /**
+     * Bookkeeping of a sub-list view: it follows the changes made through it and fails fast on any other structural
+     * change to the list
+     */
+    abstract class Range {
+        final int offset;
+        int size;
+        private int expectedModCount = modCount;
+
+        Range(int fromIndex, int toIndex) {
+            this.offset = fromIndex;
+            this.size = toIndex - fromIndex;
+        }
+
+        public int size() {
+            checkForComodification();
+            return size;
+        }
+
+        public boolean isEmpty() {
+            return size() == 0;
+        }
+
+        public void clear() {
+            checkForComodification();
+            removeRange(offset, offset + size);
+            changed(-size);
+        }
+
+        /**
+         * Position in the list of the element at {@code index}
+         */
+        final int at(int index) {
+            checkForComodification();
+            indexInRange(index, size - 1);
+            return offset + index;
+        }
+
+        /**
+         * Position in the list to insert at {@code index}
+         */
+        final int insertionPoint(int index) {
+            checkForComodification();
+            indexInRange(index, size);
+            return offset + index;
+        }
+
+        final void changed(int sizeChange) {
+            size += sizeChange;
+            expectedModCount = modCount;
+        }
+
+        final void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * Boxing {@link List} view. Its iterators fail fast on structural changes made through the view or to the list
+     * itself; its own modCount, which sub-lists of the view check, follows the changes made through the view.
+     */
+    abstract class BoxedView<T> extends AbstractList<T> implements RandomAccess {
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Called by the typed add and remove, after changing the list
+         */
+        final void changed() {
+            modCount = PrimitiveList.this.modCount;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return new BoxedIterator(0);
+        }
+
+        @Override
+        public ListIterator<T> listIterator(int index) {
+            indexInRange(index, size);
+            return new BoxedIterator(index);
+        }
+
+        private class BoxedIterator implements ListIterator<T> {
+            private int cursor;
+            private int lastReturned = -1;
+            private int expectedModCount = PrimitiveList.this.modCount;
+
+            BoxedIterator(int index) {
+                cursor = index;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            public T next() {
+                checkForComodification();
+                if (cursor >= size) {
+                    throw new NoSuchElementException();
+                }
+                lastReturned = cursor;
+                return get(cursor++);
+            }
+
+            @Override
+            public boolean hasPrevious() {
+                return cursor > 0;
+            }
+
+            @Override
+            public T previous() {
+                checkForComodification();
+                if (cursor <= 0) {
+                    throw new NoSuchElementException();
+                }
+                lastReturned = --cursor;
+                return get(cursor);
+            }
+
+            @Override
+            public int nextIndex() {
+                return cursor;
+            }
+
+            @Override
+            public int previousIndex() {
+                return cursor - 1;
+            }
+
+            @Override
+            public void remove() {
+                if (lastReturned < 0) {
+                    throw new IllegalStateException();
+                }
+                checkForComodification();
+                BoxedView.this.remove(lastReturned);
+                cursor = lastReturned;
+                lastReturned = -1;
+                expectedModCount = PrimitiveList.this.modCount;
+            }
+
+            @Override
+            public void set(T element) {
+                if (lastReturned < 0) {
+                    throw new IllegalStateException();
+                }
+                checkForComodification();
+                BoxedView.this.set(lastReturned, element);
+            }
+
+            @Override
+            public void add(T element) {
+                checkForComodification();
+                BoxedView.this.add(cursor++, element);
+                lastReturned = -1;
+                expectedModCount = PrimitiveList.this.modCount;
+            }
+
+            private void checkForComodification() {
+                if (PrimitiveList.this.modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,458 @@
+package com.endava.internship.collections;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Copy-on-write form of {@link StudentList} for lists that are read far more often than they are changed.
+ * <p>
+ * Every mutation publishes a new backing array, so iterators, spliterators and sub-lists read an immutable snapshot
+ * without any locking or fail-fast checks. They do not see later changes and do not support modification.
+ * A {@link StudentList} is turned into this form with {@link StudentList#toSnapshot()}, which hands its array over,
+ * and back with {@link #toStudentList()}, which copies the current snapshot once.
+ */
+public class SnapshotStudentList<E> implements List<E> {
+    private final Object lock = new Object();
+    private volatile Snapshot snapshot;
+
+    public SnapshotStudentList() {
+        snapshot = new Snapshot(new Object[0], 0);
+    }
+
+    public SnapshotStudentList(Collection<? extends E> objectsCollection) {
+        Object[] c = StudentList.ownedArrayOf(objectsCollection);
+        snapshot = new Snapshot(c, c.length);
+    }
+
+    /**
+     * Adopts the given array without copying it; the caller must not touch it afterwards
+     */
+    SnapshotStudentList(Object[] objectsArray, int size) {
+        snapshot = new Snapshot(objectsArray, size);
+    }
+
+    /**
+     * The array together with the number of elements in use; both are never changed once published
+     */
+    private static final class Snapshot {
+        final Object[] objectsArray;
+        final int size;
+
+        Snapshot(Object[] objectsArray, int size) {
+            this.objectsArray = objectsArray;
+            this.size = size;
+        }
+    }
+
+    public StudentList<E> toStudentList() {
+        Snapshot s = snapshot;
+        return new StudentList<>(Arrays.copyOf(s.objectsArray, s.size), s.size);
+    }
+
+    @Override
+    public int size() {
+        return snapshot.size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        Snapshot s = snapshot;
+        return new SnapshotIterator<>(s.objectsArray, 0, s.size, 0);
+    }
+
+    @Override
+    public Object[] toArray() {
+        Snapshot s = snapshot;
+        return Arrays.copyOf(s.objectsArray, s.size);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T[] toArray(T[] ts) {
+        Snapshot s = snapshot;
+        return (T[]) Arrays.copyOf(s.objectsArray, s.size, ts.getClass());
+    }
+
+    @Override
+    public boolean add(E object) {
+        synchronized (lock) {
+            Snapshot s = snapshot;
+            Object[] a = Arrays.copyOf(s.objectsArray, s.size + 1);
+            a[s.size] = object;
+            snapshot = new Snapshot(a, a.length);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        synchronized (lock) {
+            int index = indexOf(o);
+            if (index < 0) {
+                return false;
+            }
+            remove(index);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> collection) {
+        Snapshot s = snapshot;
+        for (Object o : collection) {
+            if (indexOfRange(s.objectsArray, o, 0, s.size) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> collection) {
+        Object[] c = collection.toArray();
+        synchronized (lock) {
+            return insert(snapshot.size, c);
+        }
+    }
+
+    @Override
+    public boolean addAll(int i, Collection<? extends E> collection) {
+        Object[] c = collection.toArray();
+        synchronized (lock) {
+            return insert(i, c);
+        }
+    }
+
+    /**
+     * Publishes the snapshot with {@code c} inserted at {@code i}; the caller holds the lock
+     */
+    private boolean insert(int i, Object[] c) {
+        Snapshot s = snapshot;
+        indexInRange(i, s.size);
+        if (c.length == 0) {
+            return false;
+        }
+        Object[] a = new Object[s.size + c.length];
+        System.arraycopy(s.objectsArray, 0, a, 0, i);
+        System.arraycopy(c, 0, a, i, c.length);
+        System.arraycopy(s.objectsArray, i, a, i + c.length, s.size - i);
+        snapshot = new Snapshot(a, a.length);
+        return true;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> collection) {
+        Collection<?> lookup = StudentList.lookupOf(collection);
+        return removeIf(lookup::contains);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> collection) {
+        Collection<?> lookup = StudentList.lookupOf(collection);
+        return removeIf(o -> !lookup.contains(o));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        synchronized (lock) {
+            Snapshot s = snapshot;
+            Object[] a = new Object[s.size];
+            int w = 0;
+            for (int r = 0; r < s.size; r++) {
+                if (!filter.test((E) s.objectsArray[r])) {
+                    a[w++] = s.objectsArray[r];
+                }
+            }
+            if (w == s.size) {
+                return false;
+            }
+            snapshot = new Snapshot(Arrays.copyOf(a, w), w);
+            return true;
+        }
+    }
+
+    @Override
+    public void clear() {
+        synchronized (lock) {
+            snapshot = new Snapshot(new Object[0], 0);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E get(int i) {
+        Snapshot s = snapshot;
+        indexInRange(i, s.size - 1);
+        return (E) s.objectsArray[i];
+    }
+
+    private static void indexInRange(int i, int upperLimit) {
+        if (i < 0 || i > upperLimit) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E set(int i, E object) {
+        synchronized (lock) {
+            Snapshot s = snapshot;
+            indexInRange(i, s.size - 1);
+            Object[] a = Arrays.copyOf(s.objectsArray, s.size);
+            Object replacedObject = a[i];
+            a[i] = object;
+            snapshot = new Snapshot(a, a.length);
+            return (E) replacedObject;
+        }
+    }
+
+    @Override
+    public void add(int i, E object) {
+        synchronized (lock) {
+            Snapshot s = snapshot;
+            indexInRange(i, s.size);
+            Object[] a = new Object[s.size + 1];
+            System.arraycopy(s.objectsArray, 0, a, 0, i);
+            a[i] = object;
+            System.arraycopy(s.objectsArray, i, a, i + 1, s.size - i);
+            snapshot = new Snapshot(a, a.length);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E remove(int i) {
+        synchronized (lock) {
+            Snapshot s = snapshot;
+            indexInRange(i, s.size - 1);
+            Object removedObject = s.objectsArray[i];
+            Object[] a = new Object[s.size - 1];
+            System.arraycopy(s.objectsArray, 0, a, 0, i);
+            System.arraycopy(s.objectsArray, i + 1, a, i, s.size - i - 1);
+            snapshot = new Snapshot(a, a.length);
+            return (E) removedObject;
+        }
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        Snapshot s = snapshot;
+        return indexOfRange(s.objectsArray, o, 0, s.size);
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        Snapshot s = snapshot;
+        return lastIndexOfRange(s.objectsArray, o, 0, s.size);
+    }
+
+    private static int indexOfRange(Object[] a, Object o, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (Objects.equals(o, a[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int lastIndexOfRange(Object[] a, Object o, int start, int end) {
+        for (int i = end - 1; i >= start; i--) {
+            if (Objects.equals(o, a[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public ListIterator<E> listIterator() {
+        return listIterator(0);
+    }
+
+    @Override
+    public ListIterator<E> listIterator(int i) {
+        Snapshot s = snapshot;
+        indexInRange(i, s.size);
+        return new SnapshotIterator<>(s.objectsArray, 0, s.size, i);
+    }
+
+    @Override
+    public List<E> subList(int i, int i1) {
+        Snapshot s = snapshot;
+        if (i < 0 || i1 > s.size) {
+            throw new IndexOutOfBoundsException();
+        } else if (i > i1) {
+            throw new IllegalArgumentException();
+        }
+        return new SnapshotView<>(s.objectsArray, i, i1);
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        Snapshot s = snapshot;
+        return Spliterators.spliterator(s.objectsArray, 0, s.size, Spliterator.IMMUTABLE | Spliterator.ORDERED);
+    }
+
+    /**
+     * Compares the current snapshot, like any other list
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        Snapshot s = snapshot;
+        return o instanceof List && new SnapshotView<E>(s.objectsArray, 0, s.size).equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        Snapshot s = snapshot;
+        return new SnapshotView<E>(s.objectsArray, 0, s.size).hashCode();
+    }
+
+    @Override
+    public String toString() {
+        Snapshot s = snapshot;
+        return "SnapshotStudentList{" + "size=" + s.size + ", students=" + Arrays.toString(Arrays.copyOf(s.objectsArray, s.size)) + '}';
+    }
+
+    /**
+     * Read-only iterator over the [from, to) range of a published array
+     */
+    private static class SnapshotIterator<E> implements ListIterator<E> {
+        private final Object[] objectsArray;
+        private final int from;
+        private final int to;
+        private int cursor;
+
+        SnapshotIterator(Object[] objectsArray, int from, int to, int index) {
+            this.objectsArray = objectsArray;
+            this.from = from;
+            this.to = to;
+            this.cursor = from + index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < to;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return (E) objectsArray[cursor++];
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return cursor > from;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public E previous() {
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            return (E) objectsArray[--cursor];
+        }
+
+        @Override
+        public int nextIndex() {
+            return cursor - from;
+        }
+
+        @Override
+        public int previousIndex() {
+            return cursor - from - 1;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void set(E e) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void add(E e) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Read-only sub-list over the [offset, offset + size) range of a published array
+     */
+    private static class SnapshotView<E> extends AbstractList<E> implements RandomAccess {
+        private final Object[] objectsArray;
+        private final int offset;
+        private final int size;
+
+        SnapshotView(Object[] objectsArray, int fromIndex, int toIndex) {
+            this.objectsArray = objectsArray;
+            this.offset = fromIndex;
+            this.size = toIndex - fromIndex;
+        }
+
+        @SuppressWarnings("unchecked")
+        public E get(int index) {
+            indexInRange(index, size - 1);
+            return (E) objectsArray[offset + index];
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public Iterator<E> iterator() {
+            return new SnapshotIterator<>(objectsArray, offset, offset + size, 0);
+        }
+
+        public ListIterator<E> listIterator(int index) {
+            indexInRange(index, size);
+            return new SnapshotIterator<>(objectsArray, offset, offset + size, index);
+        }
+
+        public int indexOf(Object o) {
+            int index = indexOfRange(objectsArray, o, offset, offset + size);
+            return index >= 0 ? index - offset : -1;
+        }
+
+        public int lastIndexOf(Object o) {
+            int index = lastIndexOfRange(objectsArray, o, offset, offset + size);
+            return index >= 0 ? index - offset : -1;
+        }
+
+        public Spliterator<E> spliterator() {
+            return Spliterators.spliterator(objectsArray, offset, offset + size, Spliterator.IMMUTABLE | Spliterator.ORDERED);
+        }
+
+        public List<E> subList(int fromIndex, int toIndex) {
+            if (fromIndex < 0 || toIndex > size) {
+                throw new IndexOutOfBoundsException();
+            } else if (fromIndex > toIndex) {
+                throw new IllegalArgumentException();
+            }
+            return new SnapshotView<>(objectsArray, offset + fromIndex, offset + toIndex);
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.endava.internship.collections;
+
+import java.util.*;
+import java.util.function.UnaryOperator;
+
+/**
+ * {@link StudentList} that keeps its elements in natural order, as defined by {@link Student#compareTo(Student)}.
+ * <p>
+ * add and addAll insert at the sorted position, and indexOf, lastIndexOf, contains and remove(Object) binary-search
+ * the run of elements that compare equal before checking them with equals. Elements compare by name only, so equal
+ * students are found among the namesakes. Operations that place an element at a given index or replace elements in
+ * place are not supported, and null elements are rejected.
+ */
+public class SortedStudentList<E extends Comparable<? super E>> extends StudentList<E> {
+
+    public SortedStudentList() {
+        super();
+    }
+
+    public SortedStudentList(int capacity) {
+        super(capacity);
+    }
+
+    public SortedStudentList(Collection<E> objectsCollection) {
+        super(objectsCollection);
+    }
+
+    @Override
+    public boolean add(E object) {
+        Objects.requireNonNull(object);
+        super.add(upperBound(object), object);
+        return true;
+    }
+
+    /**
+     * Appends the batch, sorts it, and lets the merge of the two sorted runs restore the order in linear time
+     */
+    @Override
+    public boolean addAll(Collection<? extends E> collection) {
+        int oldSize = size;
+        for (Object o : collection) {
+            Objects.requireNonNull(o);
+        }
+        if (!super.addAll(collection)) {
+            return false;
+        }
+        Arrays.sort(objectsArray, oldSize, size);
+        Arrays.sort(objectsArray, 0, size);
+        reordered();
+        return true;
+    }
+
+    /**
+     * Loader batches are merged like {@link #addAll(Collection)} instead of being appended as they come
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    void appendBatch(Object[] batch, int count) {
+        addAll((List<E>) (List<?>) Arrays.asList(batch).subList(0, count));
+    }
+
+    @Override
+    public void add(int i, E object) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(int i, Collection<? extends E> collection) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public E set(int i, E object) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<E> operator) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Also reached through the replaceAll of sub-list views
+     */
+    @Override
+    void replaceAll(UnaryOperator<E> operator, int start, int end) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * The list is already in natural order, any other order is unsupported
+     */
+    @Override
+    public void sort(Comparator<? super E> c) {
+        if (c != null) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    @Override
+    public void parallelSort(Comparator<? super E> c) {
+        sort(c);
+    }
+
+    /**
+     * Used by indexOf, contains and remove(Object)
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    int find(Object o) {
+        if (o == null) {
+            return -1;
+        }
+        int checked = 0;
+        try {
+            E element = (E) o;
+            for (int i = lowerBound(element); i < size && compare(i, element) == 0; i++) {
+                checked++;
+                if (objectsArray[i].equals(o)) {
+                    return i;
+                }
+            }
+        } catch (ClassCastException e) {
+            return -1;
+        } finally {
+            scanned(checked);
+        }
+        return -1;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public int lastIndexOf(Object o) {
+        if (listener() != null) {
+            listener().operation(StudentListListener.Operation.LAST_INDEX_OF);
+        }
+        if (o == null) {
+            return -1;
+        }
+        int checked = 0;
+        try {
+            E element = (E) o;
+            for (int i = upperBound(element) - 1; i >= 0 && compare(i, element) == 0; i--) {
+                checked++;
+                if (objectsArray[i].equals(o)) {
+                    return i;
+                }
+            }
+        } catch (ClassCastException e) {
+            return -1;
+        } finally {
+            scanned(checked);
+        }
+        return -1;
+    }
+
+    /**
+     * Reports the binary-search probes and the namesakes checked after them
+     */
+    private void scanned(int checked) {
+        if (listener() != null) {
+            listener().scanned(32 - Integer.numberOfLeadingZeros(size) + checked);
+        }
+    }
+
+    /**
+     * First index whose element is not less than {@code element}
+     */
+    private int lowerBound(E element) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(mid, element) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * First index whose element is greater than {@code element}
+     */
+    private int upperBound(E element) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(mid, element) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compare(int i, E element) {
+        return ((E) objectsArray[i]).compareTo(element);
+    }
+}
@@ -7,14 +7,16 @@ import java.util.Objects;
  * The class that defines the element that will be contained by your collection
  */
 public class Student implements Comparable<Student> {
-    private String name;
-    private LocalDate dateOfBirth;
-    private String details;
+    private final String name;
+    private final LocalDate dateOfBirth;
+    private final String details;
+    private final int hash;
 
     public Student(String name, LocalDate dateOfBirth, String details) {
         this.name = name;
         this.dateOfBirth = dateOfBirth;
         this.details = details;
+        this.hash = 31 * (31 + Objects.hashCode(name)) + Objects.hashCode(dateOfBirth);
     }
 
     public String getName() {
@@ -36,18 +38,27 @@ public class Student implements Comparable<Student> {
         placed before the younger student in an ordered student list.
     */
 
+    /**
+     * The cached hashes are compared first, so most unequal students are rejected without touching name or dateOfBirth
+     */
     @Override
     public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
         if (obj instanceof Student) {
             Student o = (Student) obj;
-            return this.getName().equals(o.getName()) && this.getDateOfBirth().equals(o.getDateOfBirth());
+            return hash == o.hash && Objects.equals(name, o.name) && Objects.equals(dateOfBirth, o.dateOfBirth);
         }
         return false;
     }
 
+    /**
+     * Same value as {@code Objects.hash(name, dateOfBirth)}, computed once since a student never changes
+     */
     @Override
     public int hashCode() {
-        return Objects.hash(name, dateOfBirth);
+        return hash;
     }
 
     @Override
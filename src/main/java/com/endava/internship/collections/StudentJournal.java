@@ -0,0 +1,161 @@
+package com.endava.internship.collections;
+
+import java.util.*;
+
+/**
+ * Opt-in log of the changes made to a {@link StudentList}, attached with {@link StudentList#enableJournal()}.
+ * <p>
+ * Every change is appended as a {@link Delta} carrying the next sequence number, so a replica that has applied
+ * everything up to some sequence number catches up through {@link #since(long)} and a {@link JournalApplier} in time
+ * proportional to the changes rather than to the size of the list. Deltas keep references to the elements, not
+ * copies of them. Operations that reorder the whole list (sort) are recorded as a {@link Operation#RESET} with the
+ * full contents. Deltas every replica has applied can be dropped with {@link #truncate(long)}.
+ */
+public class StudentJournal<E> {
+    private final StudentList<Delta<E>> deltas = new StudentList<>();
+    private long firstSequence = 1;
+    private long lastSequence = 0;
+
+    public enum Operation {
+        /** elements inserted at index */
+        INSERT,
+        /** elements written over [index, index + elements) */
+        SET,
+        /** count elements removed from index */
+        REMOVE,
+        /** elements removed from the ascending positions, all of them taken before the removal */
+        REMOVE_POSITIONS,
+        CLEAR,
+        /** contents replaced by the elements */
+        RESET
+    }
+
+    public static final class Delta<E> {
+        private final long sequence;
+        private final Operation operation;
+        private final int index;
+        private final int count;
+        private final Object[] elements;
+        private final int[] positions;
+
+        private Delta(long sequence, Operation operation, int index, int count, Object[] elements, int[] positions) {
+            this.sequence = sequence;
+            this.operation = operation;
+            this.index = index;
+            this.count = count;
+            this.elements = elements;
+            this.positions = positions;
+        }
+
+        public long sequence() {
+            return sequence;
+        }
+
+        public Operation operation() {
+            return operation;
+        }
+
+        public int index() {
+            return index;
+        }
+
+        /**
+         * Number of elements inserted, set or removed
+         */
+        public int count() {
+            return count;
+        }
+
+        @SuppressWarnings("unchecked")
+        public List<E> elements() {
+            return elements == null ? Collections.<E>emptyList()
+                    : Collections.unmodifiableList((List<E>) Arrays.asList(elements));
+        }
+
+        public int[] positions() {
+            return positions == null ? new int[0] : positions.clone();
+        }
+
+        Object[] elementArray() {
+            return elements;
+        }
+
+        int[] positionArray() {
+            return positions;
+        }
+
+        @Override
+        public String toString() {
+            return "Delta{" + "sequence=" + sequence + ", operation=" + operation + ", index=" + index + ", count=" + count + '}';
+        }
+    }
+
+    StudentJournal() {
+    }
+
+    public long lastSequence() {
+        return lastSequence;
+    }
+
+    public int size() {
+        return deltas.size();
+    }
+
+    /**
+     * The deltas recorded after {@code sequence}, in order
+     *
+     * @throws IllegalStateException if some of them were already truncated
+     */
+    public List<Delta<E>> since(long sequence) {
+        if (sequence < firstSequence - 1) {
+            throw new IllegalStateException("Deltas after " + sequence + " were truncated, the journal starts at " + firstSequence);
+        }
+        int from = (int) Math.min(sequence - firstSequence + 1, deltas.size());
+        return Collections.unmodifiableList(new ArrayList<>(deltas.subList(from, deltas.size())));
+    }
+
+    /**
+     * Drops the deltas up to and including {@code sequence}
+     */
+    public void truncate(long sequence) {
+        int count = (int) Math.min(Math.max(sequence - firstSequence + 1, 0), deltas.size());
+        deltas.removeRange(0, count);
+        firstSequence += count;
+    }
+
+    void inserted(int index, Object element) {
+        append(Operation.INSERT, index, 1, new Object[]{element}, null);
+    }
+
+    void inserted(int index, Object[] elements, int count) {
+        append(Operation.INSERT, index, count, Arrays.copyOf(elements, count), null);
+    }
+
+    void set(int index, Object element) {
+        append(Operation.SET, index, 1, new Object[]{element}, null);
+    }
+
+    void set(int start, Object[] objectsArray, int end) {
+        append(Operation.SET, start, end - start, Arrays.copyOfRange(objectsArray, start, end), null);
+    }
+
+    void removed(int index, int count) {
+        append(Operation.REMOVE, index, count, null, null);
+    }
+
+    void removed(int[] positions) {
+        append(Operation.REMOVE_POSITIONS, positions[0], positions.length, null, positions);
+    }
+
+    void cleared() {
+        append(Operation.CLEAR, 0, 0, null, null);
+    }
+
+    void reset(Object[] objectsArray, int size) {
+        append(Operation.RESET, 0, size, Arrays.copyOf(objectsArray, size), null);
+    }
+
+    private void append(Operation operation, int index, int count, Object[] elements, int[] positions) {
+        deltas.add(new Delta<>(++lastSequence, operation, index, count, elements, positions));
+    }
+}
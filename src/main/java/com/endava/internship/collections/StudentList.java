@@ -1,12 +1,24 @@
 package com.endava.internship.collections;
 
+import com.endava.internship.collections.StudentListListener.Operation;
+
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 public class StudentList<E> implements List<E> {
     private final static int DEFAULT_CAPACITY = 10;
-    private int size = 0;
+    private final static int HASH_LOOKUP_THRESHOLD = 16;
+    int size = 0;
+    private int modCount = 0;
     private int capacity = DEFAULT_CAPACITY;
-    private Object[] objectsArray;
+    Object[] objectsArray;
+    private HashIndex index;
+    private StudentJournal<E> journal;
+    private StudentListListener listener;
+    private GrowthPolicy growthPolicy = GrowthPolicy.doubling();
+    private int resizeCount = 0;
 
     public StudentList() {
         objectsArray = new Object[DEFAULT_CAPACITY];
@@ -20,11 +32,51 @@ public class StudentList<E> implements List<E> {
         objectsArray = new Object[capacity];
     }
 
+    public StudentList(int capacity, GrowthPolicy growthPolicy) {
+        this(capacity);
+        setGrowthPolicy(growthPolicy);
+    }
+
     public StudentList(Collection<E> objectsCollection) {
-        objectsArray = new Object[objectsCollection.size() + 10];
+        capacity = objectsCollection.size();
+        objectsArray = new Object[capacity];
         addAll(objectsCollection);
     }
 
+    /**
+     * Adopts the given array as the backing array without copying it
+     */
+    StudentList(Object[] objectsArray, int size) {
+        this.objectsArray = objectsArray;
+        this.capacity = objectsArray.length;
+        this.size = size;
+    }
+
+    /**
+     * How the elements of a list are laid out in memory
+     */
+    public enum Storage {
+        /**
+         * One array with the free capacity at the end: fastest access, edits shift the tail
+         */
+        ARRAY,
+        /**
+         * One array with the free capacity as a gap at the last edit: edits near the previous one are O(1)
+         */
+        GAP_BUFFER
+    }
+
+    public static <E> List<E> newList(Storage storage) {
+        switch (storage) {
+            case ARRAY:
+                return new StudentList<>();
+            case GAP_BUFFER:
+                return new GapStudentList<>();
+            default:
+                throw new IllegalArgumentException("Unknown storage: " + storage);
+        }
+    }
+
     @Override
     public int size() {
         return size;
@@ -37,7 +89,64 @@ public class StudentList<E> implements List<E> {
 
     @Override
     public boolean contains(Object o) {
-        return indexOf(o) >= 0;
+        if (listener != null) {
+            listener.operation(Operation.CONTAINS);
+        }
+        if (index != null) {
+            return index.contains(o);
+        }
+        return find(o) >= 0;
+    }
+
+    /**
+     * Attaches a hash index of the elements, which makes contains and indexOf O(1) expected at the cost of maintaining
+     * it on every change. Elements must have a hashCode consistent with equals.
+     */
+    public void enableIndex() {
+        if (index == null) {
+            index = new HashIndex(objectsArray, size);
+        }
+    }
+
+    public void disableIndex() {
+        index = null;
+    }
+
+    public boolean isIndexed() {
+        return index != null;
+    }
+
+    /**
+     * Starts recording every change to the list as a {@link StudentJournal.Delta}; if a journal is already attached,
+     * it is returned unchanged
+     */
+    public StudentJournal<E> enableJournal() {
+        if (journal == null) {
+            journal = new StudentJournal<>();
+        }
+        return journal;
+    }
+
+    public void disableJournal() {
+        journal = null;
+    }
+
+    /**
+     * The attached journal, or null when changes are not recorded
+     */
+    public StudentJournal<E> journal() {
+        return journal;
+    }
+
+    /**
+     * Reports operations, shifts, scans and resizes to {@code listener}; null detaches the current one
+     */
+    public void setListener(StudentListListener listener) {
+        this.listener = listener;
+    }
+
+    public StudentListListener listener() {
+        return listener;
     }
 
     @Override
@@ -45,6 +154,11 @@ public class StudentList<E> implements List<E> {
         return new ObjectIterator();
     }
 
+    @Override
+    public Spliterator<E> spliterator() {
+        return new ObjectSpliterator<>(this, 0, size);
+    }
+
     @Override
     public Object[] toArray() {
         return Arrays.copyOf(objectsArray, size);
@@ -57,10 +171,20 @@ public class StudentList<E> implements List<E> {
     }
 
     @Override
-    public boolean add(Object object) {
+    public boolean add(E object) {
+        if (listener != null) {
+            listener.operation(Operation.ADD);
+        }
         checkCapacity();
         objectsArray[size] = object;
+        if (index != null) {
+            index.appended(object, size);
+        }
+        if (journal != null) {
+            journal.inserted(size, object);
+        }
         size++;
+        modCount++;
         return true;
     }
 
@@ -69,18 +193,54 @@ public class StudentList<E> implements List<E> {
     }
 
     private void checkCapacity(int min) {
-        if (size + min >= capacity) {
-            if ((capacity * 2) > (size + min)) {
-                capacity *= 2;
-            } else {
-                capacity += min;
-            }
+        if (size + min > capacity) {
+            capacity = growthPolicy.grow(capacity, size + min);
             resizeArray();
         }
     }
 
     private void resizeArray() {
+        int oldCapacity = objectsArray.length;
         objectsArray = Arrays.copyOf(objectsArray, capacity);
+        resizeCount++;
+        if (listener != null) {
+            listener.resized(oldCapacity, capacity, Math.min(oldCapacity, capacity));
+        }
+    }
+
+    public void setGrowthPolicy(GrowthPolicy growthPolicy) {
+        this.growthPolicy = Objects.requireNonNull(growthPolicy);
+    }
+
+    /**
+     * Grows the backing array once, so that {@code minCapacity} elements fit without further resizing
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > capacity) {
+            capacity = minCapacity;
+            resizeArray();
+        }
+    }
+
+    /**
+     * Shrinks the backing array to the current size, releasing the unused slots
+     */
+    public void trimToSize() {
+        if (size < capacity) {
+            capacity = size;
+            resizeArray();
+        }
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Number of times the backing array has been reallocated since this list was created
+     */
+    public int resizeCount() {
+        return resizeCount;
     }
 
     @Override
@@ -95,15 +255,58 @@ public class StudentList<E> implements List<E> {
 
     @Override
     public void clear() {
+        if (listener != null) {
+            listener.operation(Operation.CLEAR);
+        }
         for (int i = 0; i < size; i++) {
             objectsArray[i] = null;
         }
+        if (index != null) {
+            index.cleared();
+        }
+        if (journal != null) {
+            journal.cleared();
+        }
         size = 0;
+        modCount++;
+    }
+
+    /**
+     * Removes the elements in [fromIndex, toIndex) with a single shift of the tail
+     */
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size) {
+            throw new IndexOutOfBoundsException();
+        } else if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+        if (listener != null) {
+            listener.operation(Operation.REMOVE_RANGE);
+            listener.shifted(size - toIndex);
+        }
+
+        int removed = toIndex - fromIndex;
+        System.arraycopy(objectsArray, toIndex, objectsArray, fromIndex, size - toIndex);
+        Arrays.fill(objectsArray, size - removed, size, null);
+        size -= removed;
+        modCount++;
+        if (index != null) {
+            index.rebuild(objectsArray, size);
+        }
+        if (journal != null) {
+            journal.removed(fromIndex, removed);
+        }
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public E get(int i) {
+        if (listener != null) {
+            listener.operation(Operation.GET);
+        }
         indexInRange(i, size - 1);
         return (E) objectsArray[i];
     }
@@ -117,49 +320,116 @@ public class StudentList<E> implements List<E> {
     @SuppressWarnings("unchecked")
     @Override
     public E set(int i, E object) {
+        if (listener != null) {
+            listener.operation(Operation.SET);
+        }
         indexInRange(i, size - 1);
         Object replacedObject = objectsArray[i];
         objectsArray[i] = object;
+        if (index != null) {
+            index.replaced(replacedObject, object, i);
+        }
+        if (journal != null) {
+            journal.set(i, object);
+        }
         return (E) replacedObject;
     }
 
     @Override
-    public void add(int i, Object object) {
+    public void add(int i, E object) {
         indexInRange(i, size);
+        if (listener != null) {
+            listener.operation(Operation.INSERT);
+            listener.shifted(size - i);
+        }
         checkCapacity();
 
-        for (int k = size; k > i; k--) {
-            objectsArray[k] = objectsArray[k - 1];
-        }
+        System.arraycopy(objectsArray, i, objectsArray, i + 1, size - i);
         objectsArray[i] = object;
+        if (index != null) {
+            if (i == size) {
+                index.appended(object, i);
+            } else {
+                index.inserted(object);
+            }
+        }
+        if (journal != null) {
+            journal.inserted(i, object);
+        }
         size++;
+        modCount++;
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public E remove(int i) {
         indexInRange(i, size - 1);
+        if (listener != null) {
+            listener.operation(Operation.REMOVE);
+            listener.shifted(size - i - 1);
+        }
         Object removedObject = objectsArray[i];
 
-        for (int k = i; k < size - 1; k++) {
-            objectsArray[k] = objectsArray[k + 1];
-        }
+        System.arraycopy(objectsArray, i + 1, objectsArray, i, size - i - 1);
         objectsArray[size - 1] = null;
+        if (index != null) {
+            index.removed(removedObject, i, i != size - 1);
+        }
+        if (journal != null) {
+            journal.removed(i, 1);
+        }
         size--;
+        modCount++;
         return (E) removedObject;
     }
 
     @Override
     public int indexOf(Object o) {
+        if (listener != null) {
+            listener.operation(Operation.INDEX_OF);
+        }
+        return find(o);
+    }
+
+    /**
+     * indexOf without reporting the operation, so that contains can count as itself; subclasses with a faster lookup
+     * override this rather than indexOf
+     */
+    int find(Object o) {
+        if (index != null) {
+            return index.indexOf(o, objectsArray, size);
+        }
         return indexOfRange(o, 0, size);
     }
 
     @Override
     public int lastIndexOf(Object o) {
+        if (listener != null) {
+            listener.operation(Operation.LAST_INDEX_OF);
+        }
+        if (index != null && !index.contains(o)) {
+            return -1;
+        }
         return lastIndexOfRange(o, 0, size);
     }
 
     private int indexOfRange(Object o, int start, int end) {
+        int found = findForward(o, start, end);
+        if (listener != null) {
+            listener.scanned(found < 0 ? end - start : found - start + 1);
+        }
+        return found;
+    }
+
+    private int lastIndexOfRange(Object o, int start, int end) {
+        int found = findBackward(o, start, end);
+        if (listener != null) {
+            listener.scanned(found < 0 ? end - start : end - found);
+        }
+        return found;
+    }
+
+    private int findForward(Object o, int start, int end) {
         if (o == null) {
             for (int i = start; i < end; i++) {
                 if (objectsArray[i] == null) {
@@ -176,7 +446,7 @@ public class StudentList<E> implements List<E> {
         return -1;
     }
 
-    private int lastIndexOfRange(Object o, int start, int end) {
+    private int findBackward(Object o, int start, int end) {
         if (o == null) {
             for (int i = end - 1; i >= start; i--) {
                 if (objectsArray[i] == null) {
@@ -215,6 +485,9 @@ public class StudentList<E> implements List<E> {
 
     @Override
     public boolean addAll(Collection<? extends E> collection) {
+        if (listener != null) {
+            listener.operation(Operation.ADD_ALL);
+        }
         Object[] c = collection.toArray(new Object[0]);
         int len = c.length;
 
@@ -224,13 +497,46 @@ public class StudentList<E> implements List<E> {
 
         checkCapacity(len);
 
-        for (int i = size; i < size + len; i++) {
-            objectsArray[i] = c[i - size];
+        System.arraycopy(c, 0, objectsArray, size, len);
+        if (index != null) {
+            for (int k = 0; k < len; k++) {
+                index.appended(c[k], size + k);
+            }
+        }
+        if (journal != null) {
+            journal.inserted(size, c, len);
         }
         size += len;
+        modCount++;
         return true;
     }
 
+    /**
+     * Appends the first {@code count} elements of a batch the caller keeps reusing, with at most one resize and
+     * without the defensive copy of {@link #addAll(Collection)}
+     */
+    void appendBatch(Object[] batch, int count) {
+        if (count == 0) {
+            return;
+        }
+        if (listener != null) {
+            listener.operation(Operation.ADD_ALL);
+        }
+        checkCapacity(count);
+
+        System.arraycopy(batch, 0, objectsArray, size, count);
+        if (index != null) {
+            for (int k = 0; k < count; k++) {
+                index.appended(batch[k], size + k);
+            }
+        }
+        if (journal != null) {
+            journal.inserted(size, batch, count);
+        }
+        size += count;
+        modCount++;
+    }
+
     @Override
     public boolean containsAll(Collection<?> collection) {
         for (Object o : collection) {
@@ -250,51 +556,295 @@ public class StudentList<E> implements List<E> {
         }
 
         indexInRange(i, size);
+        if (listener != null) {
+            listener.operation(Operation.ADD_ALL);
+            listener.shifted(size - i);
+        }
         checkCapacity(len);
 
-        for (int times = 0; times < len; times++) {
-            for (int k = size + len; k > i; k--) {
-                objectsArray[k] = objectsArray[k - 1];
+        System.arraycopy(objectsArray, i, objectsArray, i + len, size - i);
+        System.arraycopy(c, 0, objectsArray, i, len);
+        if (index != null) {
+            for (int k = 0; k < len; k++) {
+                if (i == size) {
+                    index.appended(c[k], i + k);
+                } else {
+                    index.inserted(c[k]);
+                }
             }
         }
-        for (int k = i; k < i + len; k++) {
-            objectsArray[k] = c[k - i];
+        if (journal != null) {
+            journal.inserted(i, c, len);
         }
 
         size += len;
+        modCount++;
         return true;
     }
 
     @Override
     public boolean removeAll(Collection<?> collection) {
-        boolean listChanged = false;
-        for (Object o : collection) {
-            if (indexOf(o) >= 0) {
-                remove(o);
-                listChanged = true;
-            }
-        }
-        return listChanged;
+        Objects.requireNonNull(collection);
+        return batchRemove(lookupOf(collection), false, 0, size) > 0;
     }
 
     @Override
     public boolean retainAll(Collection<?> collection) {
-        boolean contained = false;
-        StudentList<Object> toExclude = new StudentList<>();
-
-        for (Object obj : objectsArray) {
-            for (Object collObj : collection) {
-                if (Objects.equals(obj, collObj)) {
-                    contained = true;
-                    break;
+        Objects.requireNonNull(collection);
+        return batchRemove(lookupOf(collection), true, 0, size) > 0;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        return removeIf(filter, 0, size) > 0;
+    }
+
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        forEach(action, 0, size);
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<E> operator) {
+        Objects.requireNonNull(operator);
+        replaceAll(operator, 0, size);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void sort(Comparator<? super E> c) {
+        Arrays.sort(objectsArray, 0, size, (Comparator<Object>) c);
+        reordered();
+    }
+
+    /**
+     * Sorts like {@link #sort(Comparator)}, but splits the work over the common fork-join pool;
+     * small lists are sorted sequentially
+     */
+    @SuppressWarnings("unchecked")
+    public void parallelSort(Comparator<? super E> c) {
+        if (c == null) {
+            c = (Comparator<? super E>) Comparator.naturalOrder();
+        }
+        Arrays.parallelSort(objectsArray, 0, size, (Comparator<Object>) c);
+        reordered();
+    }
+
+    /**
+     * Called after the elements were permuted in place, so that the index and the journal catch up
+     */
+    void reordered() {
+        if (listener != null) {
+            listener.operation(Operation.SORT);
+        }
+        if (index != null) {
+            index.moved();
+        }
+        if (journal != null) {
+            journal.reset(objectsArray, size);
+        }
+        modCount++;
+    }
+
+    /**
+     * Collections bigger than a few elements are copied into a HashSet, so that every contains() is O(1)
+     */
+    static Collection<?> lookupOf(Collection<?> collection) {
+        if (collection instanceof Set || collection.size() <= HASH_LOOKUP_THRESHOLD) {
+            return collection;
+        }
+        return new HashSet<>(collection);
+    }
+
+    /**
+     * Object[] of the collection's elements that no one else references. StudentList and ArrayList hand out a fresh
+     * array from toArray(); any other collection may keep a reference to the array it returns, so that one is copied.
+     */
+    static Object[] ownedArrayOf(Collection<?> collection) {
+        Object[] a = collection.toArray();
+        if (collection.getClass() == StudentList.class || collection.getClass() == ArrayList.class) {
+            return a;
+        }
+        return Arrays.copyOf(a, a.length, Object[].class);
+    }
+
+    private int batchRemove(Collection<?> collection, boolean complement, int start, int end) {
+        if (listener != null) {
+            listener.operation(Operation.BULK_REMOVE);
+        }
+        IntStudentList removed = journal != null ? new IntStudentList() : null;
+        int w = start;
+        int r = start;
+        try {
+            for (; r < end; r++) {
+                if (collection.contains(objectsArray[r]) == complement) {
+                    objectsArray[w++] = objectsArray[r];
+                } else if (removed != null) {
+                    removed.add(r);
+                }
+            }
+        } finally {
+            w = compact(r, w, end, removed);
+        }
+        return end - w;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int removeIf(Predicate<? super E> filter, int start, int end) {
+        if (listener != null) {
+            listener.operation(Operation.BULK_REMOVE);
+        }
+        IntStudentList removed = journal != null ? new IntStudentList() : null;
+        int w = start;
+        int r = start;
+        try {
+            for (; r < end; r++) {
+                if (!filter.test((E) objectsArray[r])) {
+                    objectsArray[w++] = objectsArray[r];
+                } else if (removed != null) {
+                    removed.add(r);
                 }
             }
-            if (!contained) {
-                toExclude.add(obj);
-            } else contained = false;
+        } finally {
+            w = compact(r, w, end, removed);
+        }
+        return end - w;
+    }
+
+    /**
+     * Removes the elements at the given ascending positions in one pass; positions that are not strictly ascending
+     * or not below the size are rejected before any element moves
+     */
+    void removePositions(int[] positions) {
+        if (positions.length == 0) {
+            return;
+        }
+        for (int p = 0, previous = -1; p < positions.length; previous = positions[p++]) {
+            if (positions[p] <= previous || positions[p] >= size) {
+                throw new IndexOutOfBoundsException();
+            }
         }
+        IntStudentList removed = journal != null ? new IntStudentList(positions.length) : null;
+        int w = positions[0];
+        int p = 0;
+        for (int r = w; r < size; r++) {
+            if (p < positions.length && positions[p] == r) {
+                p++;
+                if (removed != null) {
+                    removed.add(r);
+                }
+            } else {
+                objectsArray[w++] = objectsArray[r];
+            }
+        }
+        compact(size, w, size, removed);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void forEach(Consumer<? super E> action, int start, int end) {
+        int expectedModCount = modCount;
+        for (int i = start; i < end && modCount == expectedModCount; i++) {
+            action.accept((E) objectsArray[i]);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Replaces the elements of [start, end); if the operator throws, the elements already replaced stay replaced and
+     * the index and the journal still catch up with them
+     */
+    @SuppressWarnings("unchecked")
+    void replaceAll(UnaryOperator<E> operator, int start, int end) {
+        int expectedModCount = modCount;
+        int i = start;
+        try {
+            for (; i < end && modCount == expectedModCount; i++) {
+                objectsArray[i] = operator.apply((E) objectsArray[i]);
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        } finally {
+            if (i > start) {
+                modCount++;
+                if (index != null) {
+                    index.rebuild(objectsArray, size);
+                }
+                if (journal != null && Math.min(i, size) > start) {
+                    journal.set(start, objectsArray, Math.min(i, size));
+                }
+            }
+        }
+    }
+
+    /**
+     * Closes the gap left between the kept elements [.., w) and the unvisited ones [r, ..) by a filtering pass
+     * over [start, end), returning the new end of the range. {@code removedPositions} holds the positions the pass dropped
+     * when the journal is on.
+     */
+    private int compact(int r, int w, int end, IntStudentList removedPositions) {
+        if (r != end) {
+            System.arraycopy(objectsArray, r, objectsArray, w, end - r);
+            w += end - r;
+        }
+        int removed = end - w;
+        if (removed > 0) {
+            if (listener != null) {
+                listener.shifted(size - end);
+            }
+            System.arraycopy(objectsArray, end, objectsArray, w, size - end);
+            Arrays.fill(objectsArray, size - removed, size, null);
+            size -= removed;
+            modCount++;
+            if (index != null) {
+                index.rebuild(objectsArray, size);
+            }
+            if (journal != null && removedPositions != null) {
+                journal.removed(removedPositions.toArray());
+            }
+        }
+        return w;
+    }
+
+    /**
+     * Hands the backing array over to a copy-on-write {@link SnapshotStudentList} without copying it.
+     * This list is left empty.
+     */
+    public SnapshotStudentList<E> toSnapshot() {
+        SnapshotStudentList<E> snapshot = new SnapshotStudentList<>(objectsArray, size);
+        handedOver();
+        return snapshot;
+    }
+
+    /**
+     * Moves the elements into an immutable {@link FrozenStudentList} backed by an array of exactly {@code size} slots:
+     * the backing array itself when it is full, a trimmed copy otherwise. Like {@link #toSnapshot()}, this always
+     * leaves the list empty; copy it first, or use {@link FrozenStudentList#copyOf(Collection)}, to keep the contents.
+     */
+    public FrozenStudentList<E> drainToFrozen() {
+        Object[] frozen = size == objectsArray.length ? objectsArray : Arrays.copyOf(objectsArray, size);
+        handedOver();
+        return new FrozenStudentList<>(frozen, 0, frozen.length);
+    }
 
-        return removeAll(toExclude);
+    /**
+     * Starts over with a fresh array after the current one was given away
+     */
+    private void handedOver() {
+        objectsArray = new Object[DEFAULT_CAPACITY];
+        capacity = DEFAULT_CAPACITY;
+        size = 0;
+        modCount++;
+        if (index != null) {
+            index.cleared();
+        }
+        if (journal != null) {
+            journal.cleared();
+        }
     }
 
     @Override
@@ -304,6 +854,7 @@ public class StudentList<E> implements List<E> {
 
     private class ObjectIterator implements Iterator<E> {
         int cursor;
+        int expectedModCount = modCount;
 
         ObjectIterator() {
         }
@@ -316,6 +867,7 @@ public class StudentList<E> implements List<E> {
         @SuppressWarnings("unchecked")
         @Override
         public E next() {
+            checkForComodification();
             if (!hasNext()) {
                 throw new NoSuchElementException();
             }
@@ -327,9 +879,17 @@ public class StudentList<E> implements List<E> {
             if (cursor - 1 < 0) {
                 throw new IllegalStateException();
             }
+            checkForComodification();
 
             StudentList.this.remove(cursor - 1);
             cursor--;
+            expectedModCount = modCount;
+        }
+
+        final void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
         }
     }
 
@@ -349,6 +909,7 @@ public class StudentList<E> implements List<E> {
         @SuppressWarnings("unchecked")
         @Override
         public E previous() {
+            checkForComodification();
             if (cursor - 1 < 0) {
                 throw new NoSuchElementException();
             }
@@ -370,14 +931,90 @@ public class StudentList<E> implements List<E> {
             if (cursor - 1 < 0) {
                 throw new IllegalStateException();
             }
+            checkForComodification();
 
             StudentList.this.set(cursor - 1, element);
         }
 
         @Override
         public void add(E element) {
+            checkForComodification();
+
             StudentList.this.add(cursor, element);
             cursor++;
+            expectedModCount = modCount;
+        }
+    }
+
+    /**
+     * Splits the [index, fence) range of the root array in halves, so parallel streams get balanced chunks
+     */
+    private static class ObjectSpliterator<E> implements Spliterator<E> {
+        private final StudentList<?> root;
+        private int index;
+        private final int fence;
+        private final int expectedModCount;
+
+        ObjectSpliterator(StudentList<?> root, int origin, int fence) {
+            this(root, origin, fence, root.modCount);
+        }
+
+        private ObjectSpliterator(StudentList<?> root, int origin, int fence, int expectedModCount) {
+            this.root = root;
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            int lo = index;
+            int mid = (lo + fence) >>> 1;
+            if (lo >= mid) {
+                return null;
+            }
+            index = mid;
+            return new ObjectSpliterator<>(root, lo, mid, expectedModCount);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            if (index < fence) {
+                action.accept((E) root.objectsArray[index++]);
+                if (root.modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                return true;
+            }
+            return false;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            Object[] a = root.objectsArray;
+            int hi = fence;
+            int i = index;
+            index = hi;
+            for (; i < hi; i++) {
+                action.accept((E) a[i]);
+            }
+            if (root.modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
         }
     }
 
@@ -392,6 +1029,7 @@ public class StudentList<E> implements List<E> {
             this.parent = null;
             this.offset = fromIndex;
             this.size = toIndex - fromIndex;
+            this.modCount = root.modCount;
         }
 
         private SubList(SubList<E> parent, int fromIndex, int toIndex) {
@@ -399,62 +1037,76 @@ public class StudentList<E> implements List<E> {
             this.parent = parent;
             this.offset = parent.offset + fromIndex;
             this.size = toIndex - fromIndex;
+            this.modCount = parent.modCount;
         }
 
-        @SuppressWarnings("unchecked")
         public E set(int index, E element) {
+            checkForComodification();
             indexInRange(index, size - 1);
-            Object oldValue = root.objectsArray[offset + index];
-            root.objectsArray[offset + index] = element;
-            return (E) oldValue;
+            return root.set(offset + index, element);
         }
 
         @SuppressWarnings("unchecked")
         public E get(int index) {
+            checkForComodification();
             indexInRange(index, size - 1);
             return (E) root.objectsArray[offset + index];
         }
 
         public int size() {
+            checkForComodification();
             return size;
         }
 
         public void add(int index, E element) {
+            checkForComodification();
             indexInRange(index, size);
             root.add(offset + index, element);
-            updateSize(1);
+            updateSizeAndModCount(1);
         }
 
         public E remove(int index) {
+            checkForComodification();
             indexInRange(index, size - 1);
             E result = root.remove(offset + index);
-            updateSize(-1);
+            updateSizeAndModCount(-1);
             return result;
         }
 
-        private void updateSize(int sizeChange) {
+        private void updateSizeAndModCount(int sizeChange) {
             SubList<E> slist = this;
             do {
                 slist.size += sizeChange;
+                slist.modCount = root.modCount;
                 slist = slist.parent;
             } while (slist != null);
         }
 
+        private void checkForComodification() {
+            if (root.modCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
         public Object[] toArray() {
+            checkForComodification();
             return Arrays.copyOfRange(root.objectsArray, offset, offset + size);
         }
 
         @SuppressWarnings("unchecked")
         public <T> T[] toArray(T[] a) {
+            checkForComodification();
             return (T[]) Arrays.copyOfRange(root.objectsArray, offset, offset + size, a.getClass());
         }
 
         public int indexOf(Object o) {
+            checkForComodification();
             int index = root.indexOfRange(o, offset, offset + size);
             return index >= 0 ? index - offset : -1;
         }
 
         public int lastIndexOf(Object o) {
+            checkForComodification();
             int index = root.lastIndexOfRange(o, offset, offset + size);
             return index >= 0 ? index - offset : -1;
         }
@@ -463,7 +1115,97 @@ public class StudentList<E> implements List<E> {
             return indexOf(o) >= 0;
         }
 
+        public void clear() {
+            checkForComodification();
+            int removed = size;
+            root.removeRange(offset, offset + size);
+            updateSizeAndModCount(-removed);
+        }
+
+        public boolean addAll(Collection<? extends E> c) {
+            return addAll(size, c);
+        }
+
+        public boolean addAll(int index, Collection<? extends E> c) {
+            checkForComodification();
+            indexInRange(index, size);
+            int rootSize = root.size;
+            root.addAll(offset + index, c);
+            int added = root.size - rootSize;
+            if (added == 0) {
+                return false;
+            }
+            updateSizeAndModCount(added);
+            return true;
+        }
+
+        public boolean removeAll(Collection<?> c) {
+            return batchRemove(c, false);
+        }
+
+        public boolean retainAll(Collection<?> c) {
+            return batchRemove(c, true);
+        }
+
+        private boolean batchRemove(Collection<?> c, boolean complement) {
+            Objects.requireNonNull(c);
+            checkForComodification();
+            int rootSize = root.size;
+            try {
+                return root.batchRemove(lookupOf(c), complement, offset, offset + size) > 0;
+            } finally {
+                if (root.size != rootSize) {
+                    updateSizeAndModCount(root.size - rootSize);
+                }
+            }
+        }
+
+        public Iterator<E> iterator() {
+            return listIterator(0);
+        }
+
+        public ListIterator<E> listIterator(int index) {
+            checkForComodification();
+            indexInRange(index, size);
+            return new SubListIterator(index);
+        }
+
+        public void forEach(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            checkForComodification();
+            root.forEach(action, offset, offset + size);
+        }
+
+        public void replaceAll(UnaryOperator<E> operator) {
+            Objects.requireNonNull(operator);
+            checkForComodification();
+            try {
+                root.replaceAll(operator, offset, offset + size);
+            } finally {
+                updateSizeAndModCount(0);
+            }
+        }
+
+        public boolean removeIf(Predicate<? super E> filter) {
+            Objects.requireNonNull(filter);
+            checkForComodification();
+            int rootSize = root.size;
+            try {
+                return root.removeIf(filter, offset, offset + size) > 0;
+            } finally {
+                if (root.size != rootSize) {
+                    updateSizeAndModCount(root.size - rootSize);
+                }
+            }
+        }
+
+        public Spliterator<E> spliterator() {
+            checkForComodification();
+            return new ObjectSpliterator<>(root, offset, offset + size);
+        }
+
         public List<E> subList(int fromIndex, int toIndex) {
+            checkForComodification();
             if (fromIndex < 0 || toIndex > size) {
                 throw new IndexOutOfBoundsException();
             } else if (fromIndex > toIndex) {
@@ -471,6 +1213,101 @@ public class StudentList<E> implements List<E> {
             }
             return new SubList<>(this, fromIndex, toIndex);
         }
+
+        /**
+         * Reads the root array directly; structural changes go through the enclosing view so that its size and
+         * modCount stay in step
+         */
+        private class SubListIterator implements ListIterator<E> {
+            private int cursor;
+            private int lastReturned = -1;
+            private int expectedModCount = root.modCount;
+
+            SubListIterator(int index) {
+                this.cursor = index;
+            }
+
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @SuppressWarnings("unchecked")
+            public E next() {
+                checkForComodification();
+                if (cursor >= size) {
+                    throw new NoSuchElementException();
+                }
+                lastReturned = cursor++;
+                return (E) root.objectsArray[offset + lastReturned];
+            }
+
+            public boolean hasPrevious() {
+                return cursor > 0;
+            }
+
+            @SuppressWarnings("unchecked")
+            public E previous() {
+                checkForComodification();
+                if (cursor <= 0) {
+                    throw new NoSuchElementException();
+                }
+                lastReturned = --cursor;
+                return (E) root.objectsArray[offset + lastReturned];
+            }
+
+            @SuppressWarnings("unchecked")
+            public void forEachRemaining(Consumer<? super E> action) {
+                Objects.requireNonNull(action);
+                for (; cursor < size && root.modCount == expectedModCount; cursor++) {
+                    action.accept((E) root.objectsArray[offset + cursor]);
+                }
+                lastReturned = cursor - 1;
+                checkForComodification();
+            }
+
+            public int nextIndex() {
+                return cursor;
+            }
+
+            public int previousIndex() {
+                return cursor - 1;
+            }
+
+            public void remove() {
+                if (lastReturned < 0) {
+                    throw new IllegalStateException();
+                }
+                checkForComodification();
+
+                SubList.this.remove(lastReturned);
+                cursor = lastReturned;
+                lastReturned = -1;
+                expectedModCount = root.modCount;
+            }
+
+            public void set(E element) {
+                if (lastReturned < 0) {
+                    throw new IllegalStateException();
+                }
+                checkForComodification();
+
+                SubList.this.set(lastReturned, element);
+            }
+
+            public void add(E element) {
+                checkForComodification();
+
+                SubList.this.add(cursor++, element);
+                lastReturned = -1;
+                expectedModCount = root.modCount;
+            }
+
+            private void checkForComodification() {
+                if (root.modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+        }
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,539 @@
+package com.endava.internship.collections;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Compact, versioned binary format for lists of {@link Student}s.
+ * <p>
+ * Layout, all integers big-endian:
+ * <pre>
+ * header       magic "STLB", version, student count, dictionary size (4 bytes each)
+ * dictionary   every distinct name and details string once: varint byte length, UTF-8 bytes
+ * records      per student: varint name ref, varint details ref, 64-bit varint date code
+ * checkpoints  offset of every 64th record (4 bytes each)
+ * trailer      offset of the checkpoints (4 bytes)
+ * </pre>
+ * A ref of 0 is null and k is the k-th dictionary string. A date code of 0 is a null date, 1 is a null student and
+ * anything else is the zigzag-encoded epoch day plus 2, which covers every {@link LocalDate}.
+ * <p>
+ * {@link #read(ReadableByteChannel)} streams the file into a {@link StudentList} whose students share one
+ * {@link String} per dictionary entry. {@link #map(Path)} instead maps the file and decodes on access: a student is
+ * found from the nearest checkpoint and its strings are decoded the first time they are needed.
+ */
+public final class StudentListCodec {
+    private final static int MAGIC = 0x53544c42;
+    private final static int VERSION = 1;
+    private final static int HEADER_SIZE = 16;
+    private final static int CHECKPOINT_SHIFT = 6;
+    private final static int BUFFER_SIZE = 1 << 16;
+    private final static int PRESIZE_LIMIT = 1 << 16;
+    private final static int NULL_DATE = 0;
+    private final static int NULL_STUDENT = 1;
+
+    private StudentListCodec() {
+    }
+
+    public static void write(List<? extends Student> students, Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            write(students, channel);
+        }
+    }
+
+    /**
+     * Writes the students to the channel, which is left open
+     */
+    public static void write(List<? extends Student> students, WritableByteChannel channel) throws IOException {
+        Map<String, Integer> refs = new HashMap<>();
+        StudentList<String> dictionary = new StudentList<>();
+        int size = students.size();
+        int[] nameRefs = new int[size];
+        int[] detailsRefs = new int[size];
+        int i = 0;
+        for (Student student : students) {
+            if (student != null) {
+                nameRefs[i] = refOf(student.getName(), refs, dictionary);
+                detailsRefs[i] = refOf(student.getDetails(), refs, dictionary);
+            }
+            i++;
+        }
+
+        Output output = new Output(channel);
+        output.putInt(MAGIC);
+        output.putInt(VERSION);
+        output.putInt(size);
+        output.putInt(dictionary.size());
+        for (String string : dictionary) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            output.putVarint(bytes.length);
+            output.putBytes(bytes);
+        }
+
+        int[] checkpoints = new int[checkpointCount(size)];
+        i = 0;
+        for (Student student : students) {
+            if ((i & ((1 << CHECKPOINT_SHIFT) - 1)) == 0) {
+                checkpoints[i >>> CHECKPOINT_SHIFT] = output.offset();
+            }
+            output.putVarint(nameRefs[i]);
+            output.putVarint(detailsRefs[i]);
+            output.putVarlong(dateCode(student));
+            i++;
+        }
+
+        int checkpointsOffset = output.offset();
+        for (int checkpoint : checkpoints) {
+            output.putInt(checkpoint);
+        }
+        output.putInt(checkpointsOffset);
+        output.flush();
+    }
+
+    public static StudentList<Student> read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return read(channel);
+        }
+    }
+
+    /**
+     * Reads the students from the channel up to the end of the records, the checkpoints are not consumed. The counts in
+     * the header are checked against the bytes left in a seekable channel before anything is allocated; from other
+     * channels the list grows as records arrive, so a truncated stream fails with an {@link EOFException}.
+     */
+    public static StudentList<Student> read(ReadableByteChannel channel) throws IOException {
+        long available = -1;
+        if (channel instanceof SeekableByteChannel) {
+            SeekableByteChannel seekable = (SeekableByteChannel) channel;
+            available = seekable.size() - seekable.position();
+        }
+        Input input = new Input(channel);
+        int size = checkHeader(input.getInt(), input.getInt(), input.getInt());
+        int dictionarySize = input.getInt();
+        if (available >= 0) {
+            checkCounts(size, dictionarySize, available - HEADER_SIZE);
+        } else if (dictionarySize < 0) {
+            throw new IOException("Invalid dictionary size: " + dictionarySize);
+        }
+
+        String[] dictionary = new String[Math.min(dictionarySize, PRESIZE_LIMIT)];
+        for (int i = 0; i < dictionarySize; i++) {
+            if (i == dictionary.length) {
+                dictionary = Arrays.copyOf(dictionary, (int) Math.min(2L * i, dictionarySize));
+            }
+            int length = input.getVarint();
+            if (length < 0 || (available >= 0 && length > available)) {
+                throw new IOException("Invalid string length: " + length);
+            }
+            dictionary[i] = input.getString(length);
+        }
+
+        StudentList<Student> students = new StudentList<>(available >= 0 ? size : Math.min(size, PRESIZE_LIMIT));
+        for (int i = 0; i < size; i++) {
+            int nameRef = input.getVarint();
+            int detailsRef = input.getVarint();
+            long dateCode = input.getVarlong();
+            students.add(dateCode == NULL_STUDENT ? null : new Student(string(dictionary, nameRef),
+                    checkedDate(dateCode), string(dictionary, detailsRef)));
+        }
+        return students;
+    }
+
+    /**
+     * Maps the file read-only and returns a list that decodes students on access.
+     * The mapping is released when the list is garbage collected.
+     */
+    public static List<Student> map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("File too large to map: " + channel.size());
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            try {
+                return new MappedView(buffer);
+            } catch (IndexOutOfBoundsException e) {
+                throw new IOException("Corrupt student list: an entry runs past the end of the file", e);
+            }
+        }
+    }
+
+    private static int refOf(String string, Map<String, Integer> refs, StudentList<String> dictionary) {
+        if (string == null) {
+            return 0;
+        }
+        Integer ref = refs.get(string);
+        if (ref == null) {
+            dictionary.add(string);
+            ref = dictionary.size();
+            refs.put(string, ref);
+        }
+        return ref;
+    }
+
+    /**
+     * Zigzag over long: epoch days span about 40 bits, so the code never wraps onto the null markers
+     */
+    private static long dateCode(Student student) {
+        if (student == null) {
+            return NULL_STUDENT;
+        }
+        LocalDate dateOfBirth = student.getDateOfBirth();
+        if (dateOfBirth == null) {
+            return NULL_DATE;
+        }
+        long epochDay = dateOfBirth.toEpochDay();
+        return ((epochDay << 1) ^ (epochDay >> 63)) + 2;
+    }
+
+    private static LocalDate date(long dateCode) {
+        if (dateCode == NULL_DATE) {
+            return null;
+        }
+        long zigzag = dateCode - 2;
+        return LocalDate.ofEpochDay((zigzag >>> 1) ^ -(zigzag & 1));
+    }
+
+    private static LocalDate checkedDate(long dateCode) throws IOException {
+        try {
+            return date(dateCode);
+        } catch (DateTimeException e) {
+            throw new IOException("Invalid date code: " + dateCode, e);
+        }
+    }
+
+    private static String string(String[] dictionary, int ref) throws IOException {
+        if (ref < 0 || ref > dictionary.length) {
+            throw new IOException("Invalid dictionary reference: " + ref);
+        }
+        return ref == 0 ? null : dictionary[ref - 1];
+    }
+
+    /**
+     * Rejects counts that cannot fit in {@code bytes}: every dictionary entry takes at least one byte, every record
+     * three and every checkpoint four, plus the trailer
+     */
+    private static void checkCounts(int size, int dictionarySize, long bytes) throws IOException {
+        if (dictionarySize < 0) {
+            throw new IOException("Invalid dictionary size: " + dictionarySize);
+        }
+        long minimum = dictionarySize + 3L * size + 4L * checkpointCount(size) + 4;
+        if (minimum > bytes) {
+            throw new EOFException("Truncated student list: " + size + " students and " + dictionarySize
+                    + " strings need at least " + minimum + " bytes, " + bytes + " left");
+        }
+    }
+
+    private static int checkpointCount(int size) {
+        return (size + (1 << CHECKPOINT_SHIFT) - 1) >>> CHECKPOINT_SHIFT;
+    }
+
+    private static int checkHeader(int magic, int version, int size) throws IOException {
+        if (magic != MAGIC) {
+            throw new IOException("Not a student list file");
+        } else if (version != VERSION) {
+            throw new IOException("Unsupported student list version: " + version);
+        } else if (size < 0) {
+            throw new IOException("Invalid student count: " + size);
+        }
+        return size;
+    }
+
+    private static final class Output {
+        private final WritableByteChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        private long flushed;
+
+        Output(WritableByteChannel channel) {
+            this.channel = channel;
+        }
+
+        void putInt(int value) throws IOException {
+            require(4);
+            buffer.putInt(value);
+        }
+
+        void putVarint(int value) throws IOException {
+            require(5);
+            while ((value & ~0x7F) != 0) {
+                buffer.put((byte) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            buffer.put((byte) value);
+        }
+
+        void putVarlong(long value) throws IOException {
+            require(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer.put((byte) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            buffer.put((byte) value);
+        }
+
+        void putBytes(byte[] bytes) throws IOException {
+            if (bytes.length <= buffer.capacity()) {
+                require(bytes.length);
+                buffer.put(bytes);
+                return;
+            }
+            flush();
+            ByteBuffer large = ByteBuffer.wrap(bytes);
+            while (large.hasRemaining()) {
+                channel.write(large);
+            }
+            flushed += bytes.length;
+        }
+
+        /**
+         * Offset of the next byte written; the checkpoints are ints, which caps the format at 2 GB
+         */
+        int offset() throws IOException {
+            long offset = flushed + buffer.position();
+            if (offset > Integer.MAX_VALUE) {
+                throw new IOException("Student list too large for the format");
+            }
+            return (int) offset;
+        }
+
+        void flush() throws IOException {
+            ((Buffer) buffer).flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            flushed += buffer.limit();
+            ((Buffer) buffer).clear();
+        }
+
+        private void require(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+    }
+
+    private static final class Input {
+        private final ReadableByteChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+        Input(ReadableByteChannel channel) {
+            this.channel = channel;
+            ((Buffer) buffer).limit(0);
+        }
+
+        int getInt() throws IOException {
+            require(4);
+            return buffer.getInt();
+        }
+
+        int getVarint() throws IOException {
+            int value = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                require(1);
+                byte b = buffer.get();
+                value |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+            throw new IOException("Malformed varint");
+        }
+
+        long getVarlong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 70; shift += 7) {
+                require(1);
+                byte b = buffer.get();
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+            throw new IOException("Malformed varint");
+        }
+
+        String getString(int length) throws IOException {
+            if (length <= buffer.capacity()) {
+                require(length);
+                String string = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+                ((Buffer) buffer).position(buffer.position() + length);
+                return string;
+            }
+            byte[] bytes = new byte[length];
+            int copied = buffer.remaining();
+            buffer.get(bytes, 0, copied);
+            ByteBuffer rest = ByteBuffer.wrap(bytes, copied, length - copied);
+            while (rest.hasRemaining()) {
+                if (channel.read(rest) < 0) {
+                    throw new EOFException("Truncated student list");
+                }
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        private void require(int bytes) throws IOException {
+            if (buffer.remaining() >= bytes) {
+                return;
+            }
+            buffer.compact();
+            while (buffer.position() < bytes) {
+                if (channel.read(buffer) < 0) {
+                    throw new EOFException("Truncated student list");
+                }
+            }
+            ((Buffer) buffer).flip();
+        }
+    }
+
+    private static final class MappedView extends AbstractList<Student> implements RandomAccess {
+        private final ByteBuffer buffer;
+        private final int size;
+        private final int[] dictionaryOffsets;
+        private final String[] dictionary;
+        private final int checkpointsOffset;
+
+        MappedView(MappedByteBuffer buffer) throws IOException {
+            this.buffer = buffer;
+            if (buffer.capacity() < HEADER_SIZE + 4) {
+                throw new EOFException("Truncated student list");
+            }
+            this.size = checkHeader(buffer.getInt(0), buffer.getInt(4), buffer.getInt(8));
+            int dictionarySize = buffer.getInt(12);
+            checkCounts(size, dictionarySize, buffer.capacity() - HEADER_SIZE);
+            this.checkpointsOffset = buffer.getInt(buffer.capacity() - 4);
+            if (checkpointsOffset != buffer.capacity() - 4 - 4L * checkpointCount(size)) {
+                throw new IOException("Corrupt student list: checkpoints at " + checkpointsOffset + " in a file of "
+                        + buffer.capacity() + " bytes with " + size + " students");
+            }
+            this.dictionary = new String[dictionarySize];
+            this.dictionaryOffsets = new int[dictionarySize];
+
+            Cursor cursor = new Cursor(HEADER_SIZE);
+            for (int i = 0; i < dictionaryOffsets.length; i++) {
+                dictionaryOffsets[i] = cursor.position;
+                int length = varint(cursor);
+                cursor.position += length;
+                if (length < 0 || cursor.position > checkpointsOffset || cursor.position < 0) {
+                    throw new IOException("Corrupt student list: dictionary entry " + (i + 1) + " runs past the records");
+                }
+            }
+            for (int c = 0; c < checkpointCount(size); c++) {
+                int checkpoint = buffer.getInt(checkpointsOffset + 4 * c);
+                if (checkpoint < cursor.position || checkpoint >= checkpointsOffset) {
+                    throw new IOException("Corrupt student list: checkpoint " + c + " points outside the records");
+                }
+            }
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Student get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException();
+            }
+            Cursor cursor = new Cursor(buffer.getInt(checkpointsOffset + 4 * (index >>> CHECKPOINT_SHIFT)));
+            for (int skipped = index & ((1 << CHECKPOINT_SHIFT) - 1); skipped > 0; skipped--) {
+                varint(cursor);
+                varint(cursor);
+                varlong(cursor);
+            }
+            return student(cursor);
+        }
+
+        @Override
+        public Iterator<Student> iterator() {
+            return new Iterator<Student>() {
+                private final Cursor cursor = new Cursor(size == 0 ? 0 : buffer.getInt(checkpointsOffset));
+                private int index;
+
+                @Override
+                public boolean hasNext() {
+                    return index < size;
+                }
+
+                @Override
+                public Student next() {
+                    if (index >= size) {
+                        throw new NoSuchElementException();
+                    }
+                    index++;
+                    return student(cursor);
+                }
+            };
+        }
+
+        private Student student(Cursor cursor) {
+            int nameRef = varint(cursor);
+            int detailsRef = varint(cursor);
+            long dateCode = varlong(cursor);
+            return dateCode == NULL_STUDENT ? null : new Student(string(nameRef), date(dateCode), string(detailsRef));
+        }
+
+        /**
+         * Decodes the dictionary entry on first use; a racing thread at most decodes the same immutable string twice
+         */
+        private String string(int ref) {
+            if (ref == 0) {
+                return null;
+            }
+            String string = dictionary[ref - 1];
+            if (string == null) {
+                Cursor cursor = new Cursor(dictionaryOffsets[ref - 1]);
+                int length = varint(cursor);
+                byte[] bytes = new byte[length];
+                ByteBuffer entry = buffer.duplicate();
+                ((Buffer) entry).position(cursor.position);
+                entry.get(bytes);
+                string = new String(bytes, StandardCharsets.UTF_8);
+                dictionary[ref - 1] = string;
+            }
+            return string;
+        }
+
+        private int varint(Cursor cursor) {
+            int value = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = buffer.get(cursor.position++);
+                value |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+        }
+
+        private long varlong(Cursor cursor) {
+            long value = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = buffer.get(cursor.position++);
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+        }
+    }
+
+    private static final class Cursor {
+        int position;
+
+        Cursor(int position) {
+            this.position = position;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.endava.internship.collections;
+
+/**
+ * Receives the hot-path events of a {@link StudentList} it was attached to with
+ * {@link StudentList#setListener(StudentListListener)}.
+ * <p>
+ * Callbacks run synchronously on the mutating or reading thread, so they must be cheap. Without a listener the list
+ * pays one null check per operation.
+ */
+public interface StudentListListener {
+
+    enum Operation {
+        ADD, INSERT, GET, SET, REMOVE, INDEX_OF, LAST_INDEX_OF, CONTAINS, CLEAR, ADD_ALL, REMOVE_RANGE, BULK_REMOVE, SORT
+    }
+
+    default void operation(Operation operation) {
+    }
+
+    /**
+     * Elements moved by System.arraycopy to open or close a gap
+     */
+    default void shifted(int elements) {
+    }
+
+    /**
+     * Elements compared by a linear indexOf/lastIndexOf scan
+     */
+    default void scanned(int elements) {
+    }
+
+    /**
+     * The backing array was replaced by one of {@code newCapacity}, copying {@code elementsCopied} slots
+     */
+    default void resized(int oldCapacity, int newCapacity, int elementsCopied) {
+    }
+}
@@ -0,0 +1,120 @@
+package com.endava.internship.collections;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link StudentListListener} that adds the events up, for inspection in code or over JMX.
+ * <p>
+ * One instance can be shared by several lists, the counters are {@link LongAdder}s. Bytes copied by resizes are
+ * estimated from the reference size: 4 bytes with compressed oops, which the JVM uses below a 32 GB heap, 8 otherwise.
+ */
+public class StudentListMetrics implements StudentListListener, StudentListMetricsMXBean {
+    private final static String DOMAIN = "com.endava.internship.collections";
+    private final static int REFERENCE_BYTES = Runtime.getRuntime().maxMemory() < (32L << 30) ? 4 : 8;
+
+    private final Map<Operation, LongAdder> operations = new EnumMap<>(Operation.class);
+    private final LongAdder shifted = new LongAdder();
+    private final LongAdder scanned = new LongAdder();
+    private final LongAdder resizes = new LongAdder();
+    private final LongAdder bytesCopied = new LongAdder();
+
+    public StudentListMetrics() {
+        for (Operation operation : Operation.values()) {
+            operations.put(operation, new LongAdder());
+        }
+    }
+
+    @Override
+    public void operation(Operation operation) {
+        operations.get(operation).increment();
+    }
+
+    @Override
+    public void shifted(int elements) {
+        shifted.add(elements);
+    }
+
+    @Override
+    public void scanned(int elements) {
+        scanned.add(elements);
+    }
+
+    @Override
+    public void resized(int oldCapacity, int newCapacity, int elementsCopied) {
+        resizes.increment();
+        bytesCopied.add((long) elementsCopied * REFERENCE_BYTES);
+    }
+
+    public long count(Operation operation) {
+        return operations.get(operation).sum();
+    }
+
+    @Override
+    public Map<String, Long> getOperationCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Map.Entry<Operation, LongAdder> entry : operations.entrySet()) {
+            counts.put(entry.getKey().name(), entry.getValue().sum());
+        }
+        return counts;
+    }
+
+    @Override
+    public long getElementsShifted() {
+        return shifted.sum();
+    }
+
+    @Override
+    public long getElementsScanned() {
+        return scanned.sum();
+    }
+
+    @Override
+    public long getResizeCount() {
+        return resizes.sum();
+    }
+
+    @Override
+    public long getBytesCopied() {
+        return bytesCopied.sum();
+    }
+
+    @Override
+    public void reset() {
+        for (LongAdder count : operations.values()) {
+            count.reset();
+        }
+        shifted.reset();
+        scanned.reset();
+        resizes.reset();
+        bytesCopied.reset();
+    }
+
+    /**
+     * Registers the metrics with the platform MBean server as
+     * {@code com.endava.internship.collections:type=StudentList,name=<name>}
+     */
+    public ObjectName register(String name) throws JMException {
+        ObjectName objectName = objectName(name);
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+        return objectName;
+    }
+
+    public static void unregister(String name) throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName objectName = objectName(name);
+        if (server.isRegistered(objectName)) {
+            server.unregisterMBean(objectName);
+        }
+    }
+
+    static ObjectName objectName(String name) throws JMException {
+        return new ObjectName(DOMAIN + ":type=StudentList,name=" + ObjectName.quote(name));
+    }
+}
@@ -0,0 +1,21 @@
+package com.endava.internship.collections;
+
+import java.util.Map;
+
+/**
+ * JMX view of {@link StudentListMetrics}
+ */
+public interface StudentListMetricsMXBean {
+
+    Map<String, Long> getOperationCounts();
+
+    long getElementsShifted();
+
+    long getElementsScanned();
+
+    long getResizeCount();
+
+    long getBytesCopied();
+
+    void reset();
+}
@@ -0,0 +1,463 @@
+package com.endava.internship.collections;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+
+/**
+ * Streams {@link Student} records from CSV or JSON into a {@link StudentList}.
+ * <p>
+ * Bytes are read from a channel and decoded into a char buffer that a hand-written parser walks without splitting
+ * lines; students are collected in fixed-size batches and each batch is appended in one step. When reading a file,
+ * the list is pre-sized from the file length and the size of the records in the first batch.
+ * <p>
+ * CSV has one {@code name,dateOfBirth,details} record per line with {@code yyyy-MM-dd} dates. Fields may be quoted,
+ * {@code ""} escaping a quote inside them; empty unquoted fields are read as null, and a leading header line naming
+ * exactly these columns is skipped. JSON is either an array of objects or newline-delimited objects with
+ * {@code name}, {@code dateOfBirth} and {@code details} members, each of which may be null or missing; other members
+ * are ignored as long as they hold scalars. Malformed input fails with an {@link IOException} naming the line.
+ */
+public final class StudentLoader {
+    private final static int BATCH_SIZE = 4096;
+    private final static int BUFFER_SIZE = 1 << 16;
+
+    public enum Format {
+        CSV, JSON
+    }
+
+    private StudentLoader() {
+    }
+
+    public static StudentList<Student> load(Path path, Format format) throws IOException {
+        StudentList<Student> students = new StudentList<>();
+        load(path, format, students);
+        return students;
+    }
+
+    /**
+     * Appends the records of the file to {@code target}, returning how many were read
+     */
+    public static int load(Path path, Format format, StudentList<Student> target) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return load(channel, format, target, channel.size());
+        }
+    }
+
+    /**
+     * Appends the records read from the channel to {@code target}, returning how many were read.
+     * The channel is left open.
+     */
+    public static int load(ReadableByteChannel channel, Format format, StudentList<Student> target) throws IOException {
+        return load(channel, format, target, -1);
+    }
+
+    private static int load(ReadableByteChannel channel, Format format, StudentList<Student> target, long length)
+            throws IOException {
+        Reader reader = Channels.newReader(channel, StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT), BUFFER_SIZE);
+        RecordParser parser = format == Format.CSV ? new CsvParser(reader) : new JsonParser(reader);
+        Student[] batch = new Student[BATCH_SIZE];
+        boolean hinted = length < 0;
+        int loaded = 0;
+        int count;
+        do {
+            count = 0;
+            Student student;
+            while (count < BATCH_SIZE && (student = parser.next()) != null) {
+                batch[count++] = student;
+            }
+            if (!hinted && count == BATCH_SIZE) {
+                hinted = true;
+                sizeFor(target, length, count, parser.consumed());
+            }
+            target.appendBatch(batch, count);
+            loaded += count;
+        } while (count == BATCH_SIZE);
+        return loaded;
+    }
+
+    /**
+     * Extrapolates the record count of the whole file from the first batch, leaving 1/16 of slack so that a slightly
+     * low estimate does not end with a full resize
+     */
+    private static void sizeFor(StudentList<Student> target, long length, int count, long consumed) {
+        if (consumed <= 0 || consumed >= length) {
+            return;
+        }
+        long estimate = length * count / consumed;
+        estimate += estimate >> 4;
+        target.ensureCapacity((int) Math.min(target.size() + estimate, GrowthPolicy.MAX_CAPACITY));
+    }
+
+    private abstract static class RecordParser {
+        private final Reader reader;
+        private final char[] buffer = new char[BUFFER_SIZE];
+        private int position;
+        private int limit;
+        private long consumed;
+        private int line = 1;
+        int recordLine;
+        final StringBuilder text = new StringBuilder();
+
+        RecordParser(Reader reader) {
+            this.reader = reader;
+        }
+
+        /**
+         * Returns the next student, or null at the end of the input
+         */
+        abstract Student next() throws IOException;
+
+        final int peek() throws IOException {
+            if (position == limit && !fill()) {
+                return -1;
+            }
+            return buffer[position];
+        }
+
+        final int read() throws IOException {
+            if (position == limit && !fill()) {
+                return -1;
+            }
+            char c = buffer[position++];
+            if (c == '\n') {
+                line++;
+            }
+            return c;
+        }
+
+        private boolean fill() throws IOException {
+            consumed += limit;
+            position = 0;
+            limit = 0;
+            int read;
+            do {
+                read = reader.read(buffer, 0, buffer.length);
+            } while (read == 0);
+            if (read < 0) {
+                return false;
+            }
+            limit = read;
+            return true;
+        }
+
+        /**
+         * Chars consumed so far, which is also the byte count as long as the input is ASCII
+         */
+        final long consumed() {
+            return consumed + position;
+        }
+
+        final void startRecord() {
+            recordLine = line;
+        }
+
+        final IOException malformed(String message) {
+            return new IOException(message + " at line " + recordLine);
+        }
+
+        final LocalDate date(String text) throws IOException {
+            if (text == null) {
+                return null;
+            }
+            try {
+                if (text.length() == 10 && text.charAt(4) == '-' && text.charAt(7) == '-') {
+                    int year = digits(text, 0, 4);
+                    int month = digits(text, 5, 7);
+                    int day = digits(text, 8, 10);
+                    if (year >= 0 && month >= 0 && day >= 0) {
+                        return LocalDate.of(year, month, day);
+                    }
+                }
+                return LocalDate.parse(text);
+            } catch (DateTimeException e) {
+                throw malformed("Invalid date '" + text + "'");
+            }
+        }
+
+        private static int digits(String text, int start, int end) {
+            int value = 0;
+            for (int i = start; i < end; i++) {
+                int digit = text.charAt(i) - '0';
+                if (digit < 0 || digit > 9) {
+                    return -1;
+                }
+                value = value * 10 + digit;
+            }
+            return value;
+        }
+    }
+
+    private static class CsvParser extends RecordParser {
+        private final String[] fields = new String[3];
+        private boolean started;
+
+        CsvParser(Reader reader) {
+            super(reader);
+        }
+
+        @Override
+        Student next() throws IOException {
+            while (true) {
+                int c = peek();
+                if (c < 0) {
+                    return null;
+                } else if (c == '\n' || c == '\r') {
+                    read();
+                    continue;
+                }
+
+                startRecord();
+                readRecord();
+                if (!started) {
+                    started = true;
+                    if ("name".equals(fields[0]) && "dateOfBirth".equals(fields[1]) && "details".equals(fields[2])) {
+                        continue;
+                    }
+                }
+                return new Student(fields[0], date(fields[1]), fields[2]);
+            }
+        }
+
+        private void readRecord() throws IOException {
+            for (int f = 0; ; f++) {
+                if (f == fields.length) {
+                    throw malformed("More than " + fields.length + " fields");
+                }
+                fields[f] = readField();
+                int c = read();
+                if (c == ',') {
+                    continue;
+                }
+                if (c == '\r' && peek() == '\n') {
+                    read();
+                }
+                if (f != fields.length - 1) {
+                    throw malformed("Expected " + fields.length + " fields but found " + (f + 1));
+                }
+                return;
+            }
+        }
+
+        private String readField() throws IOException {
+            text.setLength(0);
+            if (peek() == '"') {
+                read();
+                while (true) {
+                    int c = read();
+                    if (c < 0) {
+                        throw malformed("Unterminated quoted field");
+                    } else if (c == '"') {
+                        if (peek() != '"') {
+                            break;
+                        }
+                        read();
+                    }
+                    text.append((char) c);
+                }
+                int next = peek();
+                if (next >= 0 && next != ',' && next != '\n' && next != '\r') {
+                    throw malformed("Unexpected character after quoted field");
+                }
+                return text.toString();
+            }
+
+            for (int c = peek(); c >= 0 && c != ',' && c != '\n' && c != '\r'; c = peek()) {
+                text.append((char) read());
+            }
+            return text.length() == 0 ? null : text.toString();
+        }
+    }
+
+    private static class JsonParser extends RecordParser {
+        private boolean started;
+        private boolean inArray;
+        private boolean finished;
+
+        JsonParser(Reader reader) {
+            super(reader);
+        }
+
+        @Override
+        Student next() throws IOException {
+            if (finished) {
+                return null;
+            }
+            int c = skipWhitespace();
+            if (!started) {
+                started = true;
+                if (c == '[') {
+                    read();
+                    inArray = true;
+                    c = skipWhitespace();
+                    if (c == ']') {
+                        return endOfArray();
+                    }
+                }
+            } else if (inArray) {
+                if (c == ']') {
+                    return endOfArray();
+                } else if (c != ',') {
+                    startRecord();
+                    throw malformed("Expected ',' or ']'");
+                }
+                read();
+                c = skipWhitespace();
+            }
+
+            if (c < 0) {
+                if (inArray) {
+                    startRecord();
+                    throw malformed("Unterminated array");
+                }
+                finished = true;
+                return null;
+            }
+            return readObject();
+        }
+
+        private Student endOfArray() throws IOException {
+            read();
+            if (skipWhitespace() >= 0) {
+                startRecord();
+                throw malformed("Unexpected content after the array");
+            }
+            finished = true;
+            return null;
+        }
+
+        private Student readObject() throws IOException {
+            startRecord();
+            if (read() != '{') {
+                throw malformed("Expected '{'");
+            }
+            String name = null;
+            String dateOfBirth = null;
+            String details = null;
+            if (skipWhitespace() == '}') {
+                read();
+                return new Student(null, null, null);
+            }
+            while (true) {
+                if (skipWhitespace() != '"') {
+                    throw malformed("Expected a member name");
+                }
+                String member = readString();
+                if (skipWhitespace() != ':') {
+                    throw malformed("Expected ':' after \"" + member + "\"");
+                }
+                read();
+                skipWhitespace();
+                String value = readValue();
+                switch (member) {
+                    case "name":
+                        name = value;
+                        break;
+                    case "dateOfBirth":
+                        dateOfBirth = value;
+                        break;
+                    case "details":
+                        details = value;
+                        break;
+                    default:
+                        break;
+                }
+
+                int c = skipWhitespace();
+                read();
+                if (c == '}') {
+                    return new Student(name, date(dateOfBirth), details);
+                } else if (c != ',') {
+                    throw malformed("Expected ',' or '}'");
+                }
+            }
+        }
+
+        private String readValue() throws IOException {
+            int c = peek();
+            if (c == '"') {
+                return readString();
+            } else if (c == '{' || c == '[') {
+                throw malformed("Nested values are not supported");
+            }
+            text.setLength(0);
+            for (c = peek(); c >= 0 && c != ',' && c != '}' && !isWhitespace(c); c = peek()) {
+                text.append((char) read());
+            }
+            if (text.length() == 0) {
+                throw malformed("Expected a value");
+            }
+            String literal = text.toString();
+            return "null".equals(literal) ? null : literal;
+        }
+
+        private String readString() throws IOException {
+            read();
+            text.setLength(0);
+            while (true) {
+                int c = read();
+                if (c < 0 || c == '\n') {
+                    throw malformed("Unterminated string");
+                } else if (c == '"') {
+                    return text.toString();
+                } else if (c == '\\') {
+                    c = unescape(read());
+                }
+                text.append((char) c);
+            }
+        }
+
+        private int unescape(int c) throws IOException {
+            switch (c) {
+                case '"':
+                case '\\':
+                case '/':
+                    return c;
+                case 'b':
+                    return '\b';
+                case 'f':
+                    return '\f';
+                case 'n':
+                    return '\n';
+                case 'r':
+                    return '\r';
+                case 't':
+                    return '\t';
+                case 'u':
+                    int code = 0;
+                    for (int i = 0; i < 4; i++) {
+                        int digit = Character.digit(read(), 16);
+                        if (digit < 0) {
+                            throw malformed("Invalid unicode escape");
+                        }
+                        code = code * 16 + digit;
+                    }
+                    return code;
+                default:
+                    throw malformed("Invalid escape");
+            }
+        }
+
+        private int skipWhitespace() throws IOException {
+            int c = peek();
+            while (isWhitespace(c)) {
+                read();
+                c = peek();
+            }
+            return c;
+        }
+
+        private static boolean isWhitespace(int c) {
+            return c == ' ' || c == '\t' || c == '\n' || c == '\r';
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.endava.internship.collections;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Columnar store of students, kept next to {@link StudentList} for large rosters.
+ * <p>
+ * Instead of one object per student with a name, a {@link LocalDate} and details, it keeps the date of birth as an
+ * epoch day in an {@code int[]}, the name as an index into a dictionary of distinct names and the details in an array
+ * that is only allocated once some student has details. {@link Student} objects are only created by {@link #get(int)};
+ * {@link #indexOf(Object)} and {@link #contains(Object)} compare the columns directly. Null elements are not supported,
+ * and neither are dates of birth whose epoch day does not fit in an int; a rejected student leaves the store unchanged.
+ */
+public class StudentStore extends AbstractList<Student> implements RandomAccess {
+    private final static int DEFAULT_CAPACITY = 10;
+    private final static int NO_NAME = -1;
+    private final static int NO_DATE = Integer.MIN_VALUE;
+
+    private int size = 0;
+    private int[] nameIds;
+    private int[] epochDays;
+    private String[] details;
+
+    private final Map<String, Integer> nameDictionary = new HashMap<>();
+    private final StudentList<String> names = new StudentList<>();
+
+    public StudentStore() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public StudentStore(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Illegal Capacity: " + capacity);
+        }
+        nameIds = new int[capacity];
+        epochDays = new int[capacity];
+    }
+
+    public StudentStore(Collection<? extends Student> students) {
+        this(students.size());
+        addAll(students);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Student get(int i) {
+        indexInRange(i, size - 1);
+        int nameId = nameIds[i];
+        return new Student(nameId == NO_NAME ? null : names.get(nameId), dateOfBirthAt(i), detailsAt(i));
+    }
+
+    public String nameAt(int i) {
+        indexInRange(i, size - 1);
+        int nameId = nameIds[i];
+        return nameId == NO_NAME ? null : names.get(nameId);
+    }
+
+    public LocalDate dateOfBirthAt(int i) {
+        indexInRange(i, size - 1);
+        return epochDays[i] == NO_DATE ? null : LocalDate.ofEpochDay(epochDays[i]);
+    }
+
+    public String detailsAt(int i) {
+        indexInRange(i, size - 1);
+        return details == null ? null : details[i];
+    }
+
+    /**
+     * Number of distinct names held by the dictionary
+     */
+    public int distinctNames() {
+        return names.size();
+    }
+
+    @Override
+    public Student set(int i, Student student) {
+        Student replaced = get(i);
+        write(i, student, toEpochDay(student.getDateOfBirth()));
+        return replaced;
+    }
+
+    @Override
+    public void add(int i, Student student) {
+        Objects.requireNonNull(student);
+        indexInRange(i, size);
+        int epochDay = toEpochDay(student.getDateOfBirth());
+        ensureCapacity(size + 1);
+
+        System.arraycopy(nameIds, i, nameIds, i + 1, size - i);
+        System.arraycopy(epochDays, i, epochDays, i + 1, size - i);
+        if (details != null) {
+            System.arraycopy(details, i, details, i + 1, size - i);
+        }
+        write(i, student, epochDay);
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public Student remove(int i) {
+        Student removed = get(i);
+
+        System.arraycopy(nameIds, i + 1, nameIds, i, size - i - 1);
+        System.arraycopy(epochDays, i + 1, epochDays, i, size - i - 1);
+        if (details != null) {
+            System.arraycopy(details, i + 1, details, i, size - i - 1);
+            details[size - 1] = null;
+        }
+        size--;
+        modCount++;
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        if (details != null) {
+            Arrays.fill(details, 0, size, null);
+        }
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        if (!(o instanceof Student)) {
+            return -1;
+        }
+        Student student = (Student) o;
+        Integer nameId = student.getName() == null ? Integer.valueOf(NO_NAME) : nameDictionary.get(student.getName());
+        if (nameId == null) {
+            return -1;
+        }
+        if (student.getDateOfBirth() != null && !fits(student.getDateOfBirth())) {
+            return -1;
+        }
+        int epochDay = toEpochDay(student.getDateOfBirth());
+        for (int i = 0; i < size; i++) {
+            if (nameIds[i] == nameId && epochDays[i] == epochDay) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * Writes the columns of the student at {@code i}; the epoch day is converted by the caller before any column is
+     * shifted, since it is the part that can be rejected
+     */
+    private void write(int i, Student student, int epochDay) {
+        nameIds[i] = nameIdOf(student.getName());
+        epochDays[i] = epochDay;
+        if (student.getDetails() != null && details == null) {
+            details = new String[nameIds.length];
+        }
+        if (details != null) {
+            details[i] = student.getDetails();
+        }
+    }
+
+    private int nameIdOf(String name) {
+        if (name == null) {
+            return NO_NAME;
+        }
+        Integer nameId = nameDictionary.get(name);
+        if (nameId == null) {
+            nameId = names.size();
+            names.add(name);
+            nameDictionary.put(name, nameId);
+        }
+        return nameId;
+    }
+
+    /**
+     * Epoch day of the date, which must fit in the int column next to the {@link #NO_DATE} marker
+     */
+    private static int toEpochDay(LocalDate date) {
+        if (date == null) {
+            return NO_DATE;
+        } else if (!fits(date)) {
+            throw new IllegalArgumentException("Date of birth out of range: " + date);
+        }
+        return (int) date.toEpochDay();
+    }
+
+    private static boolean fits(LocalDate date) {
+        return date.toEpochDay() > NO_DATE && date.toEpochDay() <= Integer.MAX_VALUE;
+    }
+
+    private void ensureCapacity(int min) {
+        if (min > nameIds.length) {
+            int capacity = Math.max(min, nameIds.length * 2);
+            nameIds = Arrays.copyOf(nameIds, capacity);
+            epochDays = Arrays.copyOf(epochDays, capacity);
+            if (details != null) {
+                details = Arrays.copyOf(details, capacity);
+            }
+        }
+    }
+
+    private static void indexInRange(int i, int upperLimit) {
+        if (i < 0 || i > upperLimit) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+}
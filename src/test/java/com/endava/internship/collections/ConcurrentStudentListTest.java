@@ -0,0 +1,244 @@
+package com.endava.internship.collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrentStudentListTest {
+    private ConcurrentStudentList<Student> studentList;
+    private final Student student1 = new Student("Bobby", LocalDate.of(2001, 5, 26), "loser");
+    private final Student student2 = new Student("Bob", LocalDate.of(2000, 5, 26), "chad");
+    private final Student student3 = new Student("Val", LocalDate.of(2002, 5, 26), "nothing");
+    private final Student student4 = new Student("George", LocalDate.of(2000, 5, 26), "learner");
+
+    @BeforeEach
+    void setUp() {
+        studentList = new ConcurrentStudentList<>();
+    }
+
+    @Test
+    void testAddGetAndRemove() {
+        Collections.addAll(studentList, student1, student2, student3);
+        studentList.add(1, student4);
+
+        assertEquals(4, studentList.size());
+        assertEquals(student4, studentList.get(1));
+        assertEquals(student4, studentList.remove(1));
+        assertTrue(studentList.remove(student3));
+        assertArrayEquals(new Student[]{student1, student2}, studentList.toArray());
+    }
+
+    @Test
+    void testGetOutOfBounds() {
+        studentList.add(student1);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> studentList.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> studentList.get(-1));
+    }
+
+    @Test
+    void testIndexOfAndContains() {
+        Collections.addAll(studentList, student1, null, student2, student1);
+
+        assertEquals(0, studentList.indexOf(student1));
+        assertEquals(3, studentList.lastIndexOf(student1));
+        assertEquals(1, studentList.indexOf(null));
+        assertTrue(studentList.contains(student2));
+        assertFalse(studentList.contains(student3));
+    }
+
+    @Test
+    void testBulkOperationsWithItself() {
+        Collections.addAll(studentList, student1, student2);
+
+        assertTrue(studentList.addAll(studentList));
+        assertTrue(studentList.containsAll(studentList));
+        assertTrue(studentList.removeAll(studentList));
+        assertTrue(studentList.isEmpty());
+    }
+
+    @Test
+    void testRemoveIfFilterMayReadTheList() {
+        Collections.addAll(studentList, student1, student2, student3, student2);
+
+        assertTrue(assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> studentList.removeIf(s -> studentList.indexOf(s) != studentList.lastIndexOf(s))));
+        assertFalse(studentList.removeIf(s -> studentList.contains(student4)));
+        assertArrayEquals(new Student[]{student1, student3}, studentList.toArray());
+    }
+
+    @Test
+    void testRemoveIfUnderConcurrentWriters() throws Exception {
+        for (int i = 0; i < 100; i++) {
+            studentList.add(i % 2 == 0 ? student1 : student3);
+        }
+        AtomicBoolean done = new AtomicBoolean();
+        Thread writer = new Thread(() -> {
+            while (!done.get()) {
+                studentList.add(student2);
+                studentList.remove(student2);
+            }
+        });
+
+        writer.start();
+        try {
+            assertTrue(studentList.removeIf(s -> s == student3));
+        } finally {
+            done.set(true);
+            writer.join();
+        }
+
+        assertEquals(Collections.nCopies(50, student1), studentList);
+    }
+
+    @Test
+    void testListIterator() {
+        Collections.addAll(studentList, student1, student2, student3);
+        ListIterator<Student> iterator = studentList.listIterator();
+
+        assertEquals(student1, iterator.next());
+        iterator.remove();
+        assertEquals(student2, iterator.next());
+        iterator.set(student4);
+        iterator.add(student1);
+        assertEquals(student3, iterator.next());
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+        assertEquals(student3, iterator.previous());
+
+        assertArrayEquals(new Student[]{student4, student1, student3}, studentList.toArray());
+    }
+
+    @Test
+    void testIteratorDoesNotFailOnConcurrentModification() {
+        Collections.addAll(studentList, student1, student2);
+        Iterator<Student> iterator = studentList.iterator();
+        iterator.next();
+        studentList.add(student3);
+
+        assertEquals(student2, iterator.next());
+        assertEquals(student3, iterator.next());
+    }
+
+    @Test
+    void testNextReturnsWhatHasNextSaw() {
+        Collections.addAll(studentList, student1, student2);
+        Iterator<Student> iterator = studentList.iterator();
+        iterator.next();
+
+        assertTrue(iterator.hasNext());
+        studentList.remove(1);
+
+        assertEquals(student2, iterator.next());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    void testEqualsAndHashCodeFollowListContract() {
+        Collections.addAll(studentList, student1, null, student2);
+        List<Student> same = new ArrayList<>(Arrays.asList(student1, null, student2));
+
+        assertEquals(same, studentList);
+        assertEquals(studentList, same);
+        assertEquals(same.hashCode(), studentList.hashCode());
+        assertNotEquals(studentList, Arrays.asList(student1, student2));
+        assertNotEquals(studentList, new HashSet<>(same));
+    }
+
+    @Test
+    void testOptimisticScanOnlyComparesValidatedElements() throws Exception {
+        Student[] students = new Student[1000];
+        Arrays.fill(students, student1);
+        AtomicBoolean sawCleared = new AtomicBoolean();
+        Object probe = new Object() {
+            @Override
+            public boolean equals(Object o) {
+                if (o == null) {
+                    sawCleared.set(true);
+                }
+                return false;
+            }
+
+            @Override
+            public int hashCode() {
+                return 0;
+            }
+        };
+        AtomicBoolean done = new AtomicBoolean();
+        Collections.addAll(studentList, students);
+        Thread writer = new Thread(() -> {
+            while (!done.get()) {
+                studentList.remove(students.length - 1);
+                studentList.add(students[students.length - 1]);
+            }
+        });
+
+        writer.start();
+        long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(200);
+        while (System.nanoTime() < end) {
+            studentList.indexOf(probe);
+            studentList.lastIndexOf(probe);
+        }
+        done.set(true);
+        writer.join();
+
+        assertFalse(sawCleared.get());
+    }
+
+    @Test
+    void testSubList() {
+        Collections.addAll(studentList, student1, student2, student3);
+        List<Student> sub = studentList.subList(1, 3);
+
+        sub.add(student4);
+        sub.remove(0);
+
+        assertEquals(2, sub.size());
+        assertArrayEquals(new Student[]{student1, student3, student4}, studentList.toArray());
+    }
+
+    @Test
+    void testConcurrentReadersAndWriters() throws Exception {
+        for (int i = 0; i < 1000; i++) {
+            studentList.add(student1);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        AtomicBoolean failed = new AtomicBoolean();
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < 2; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        studentList.add(student2);
+                        studentList.remove(student2);
+                    }
+                }));
+            }
+            for (int t = 0; t < 6; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        Student s = studentList.get(i % 1000);
+                        if (!student1.equals(s) || studentList.indexOf(student1) != 0) {
+                            failed.set(true);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertFalse(failed.get());
+        assertEquals(1000, studentList.size());
+    }
+}
@@ -0,0 +1,132 @@
+package com.endava.internship.collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DoubleStudentListTest {
+    private DoubleStudentList grades;
+
+    @BeforeEach
+    void setUp() {
+        grades = DoubleStudentList.of(9.5, 7.25, 8.0, 7.25);
+    }
+
+    @Test
+    void testAddRemoveAndLookup() {
+        grades.add(0, 10.0);
+
+        assertEquals(2, grades.indexOf(7.25));
+        assertEquals(4, grades.lastIndexOf(7.25));
+        assertEquals(9.5, grades.removeAt(1));
+        assertEquals(-1, grades.indexOf(9.5));
+    }
+
+    @Test
+    void testLookupMatchesDoubleEquals() {
+        grades.addAll(Double.NaN, -0.0);
+
+        assertEquals(4, grades.indexOf(Double.NaN));
+        assertEquals(5, grades.indexOf(-0.0));
+        assertEquals(-1, grades.indexOf(0.0));
+    }
+
+    @Test
+    void testStreamAndBulkOperations() {
+        assertEquals(32.0, grades.sum());
+        assertEquals(8.0, grades.stream().average().getAsDouble());
+        assertTrue(grades.removeIf(grade -> grade < 8));
+        assertArrayEquals(new double[]{9.5, 8.0}, grades.toArray());
+    }
+
+    @Test
+    void testSubList() {
+        DoubleStudentList.SubList subList = grades.subList(1, 3);
+
+        assertEquals(15.25, subList.sum());
+        assertEquals(7.25, subList.iterator().nextDouble());
+        grades.add(6.0);
+        assertThrows(ConcurrentModificationException.class, subList::sum);
+    }
+
+    @Test
+    void testSubListStructuralChanges() {
+        DoubleStudentList.SubList subList = grades.subList(1, 3);
+        subList.add(Double.NaN);
+        subList.add(0, 6.5);
+
+        assertEquals(3, subList.indexOf(Double.NaN));
+        assertEquals(7.25, subList.set(1, 7.5));
+        assertEquals(8.0, subList.removeAt(2));
+        assertTrue(subList.removeIf(Double::isNaN));
+        assertArrayEquals(new double[]{6.5, 7.5}, subList.toArray());
+        assertArrayEquals(new double[]{9.5, 6.5, 7.5, 7.25}, grades.toArray());
+
+        subList.clear();
+        assertTrue(subList.isEmpty());
+        assertArrayEquals(new double[]{9.5, 7.25}, grades.toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> grades.subList(0, 3));
+    }
+
+    @Test
+    void testIteratorIsFailFast() {
+        PrimitiveIterator.OfDouble iterator = grades.iterator();
+        assertEquals(9.5, iterator.nextDouble());
+        grades.removeAt(0);
+
+        assertThrows(ConcurrentModificationException.class, iterator::nextDouble);
+        assertThrows(NoSuchElementException.class, () -> new DoubleStudentList().iterator().nextDouble());
+    }
+
+    @Test
+    void testBoxedView() {
+        List<Double> boxed = grades.asList();
+        boxed.set(0, 10.0);
+
+        assertEquals(10.0, grades.get(0));
+        assertEquals(Arrays.asList(10.0, 7.25, 8.0, 7.25), boxed);
+    }
+
+    @Test
+    void testRemoveIfThatThrowsKeepsListConsistent() {
+        assertThrows(IllegalStateException.class, () -> grades.removeIf(grade -> {
+            if (grade == 8.0) {
+                throw new IllegalStateException();
+            }
+            return grade == 7.25;
+        }));
+
+        assertArrayEquals(new double[]{9.5, 8.0, 7.25}, grades.toArray());
+        assertEquals(24.75, grades.sum());
+    }
+
+    @Test
+    void testBoxedViewIsFailFast() {
+        List<Double> boxed = grades.asList();
+        Iterator<Double> iterator = boxed.iterator();
+        iterator.next();
+        boxed.add(1, 5.0);
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+
+        PrimitiveIterator.OfDouble values = grades.iterator();
+        assertTrue(boxed.removeIf(grade -> grade < 7.5));
+        assertThrows(ConcurrentModificationException.class, values::nextDouble);
+        assertEquals(Arrays.asList(9.5, 8.0), boxed);
+        assertEquals(2, grades.size());
+    }
+
+    @Test
+    void testGrowthAndBounds() {
+        DoubleStudentList empty = new DoubleStudentList(0, GrowthPolicy.fixedIncrement(3));
+        empty.add(1.0);
+
+        assertEquals(3, empty.capacity());
+        assertEquals(8.0, grades.set(2, 10.0));
+        assertThrows(IndexOutOfBoundsException.class, () -> grades.get(4));
+        assertThrows(IndexOutOfBoundsException.class, () -> grades.removeAt(-1));
+        assertThrows(IllegalArgumentException.class, () -> new DoubleStudentList(-1));
+    }
+}
@@ -0,0 +1,177 @@
+package com.endava.internship.collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FrozenStudentListTest {
+    private StudentList<Student> studentList;
+    private final Student student1 = new Student("Bobby", LocalDate.of(2001, 5, 26), "loser");
+    private final Student student2 = new Student("Bob", LocalDate.of(2000, 5, 26), "chad");
+    private final Student student3 = new Student("Val", LocalDate.of(2002, 5, 26), "nothing");
+    private final Student student4 = new Student("George", LocalDate.of(2000, 5, 26), "learner");
+    private final Student student5 = new Student("Gaven", LocalDate.of(2001, 5, 26), "introverted");
+
+    @BeforeEach
+    void setUp() {
+        studentList = new StudentList<>();
+        Collections.addAll(studentList, student1, student2, student3, student4, student5);
+    }
+
+    @Test
+    void testDrainToFrozenHandsElementsOver() {
+        FrozenStudentList<Student> frozen = studentList.drainToFrozen();
+
+        assertEquals(Arrays.asList(student1, student2, student3, student4, student5), frozen);
+        assertTrue(studentList.isEmpty());
+        studentList.add(student1);
+        assertEquals(5, frozen.size());
+    }
+
+    @Test
+    void testDrainToFrozenTrimsToSize() {
+        studentList.trimToSize();
+        Object[] backing = studentList.objectsArray;
+        FrozenStudentList<Student> full = studentList.drainToFrozen();
+
+        Collections.addAll(studentList, student1, student2);
+        FrozenStudentList<Student> trimmed = studentList.drainToFrozen();
+
+        assertArrayEquals(backing, full.toArray());
+        assertEquals(2, trimmed.toArray().length);
+        assertTrue(studentList.isEmpty());
+    }
+
+    @Test
+    void testCopyOfLeavesTheSourceIntact() {
+        FrozenStudentList<Student> frozen = FrozenStudentList.copyOf(studentList);
+        studentList.set(0, student5);
+
+        assertEquals(5, studentList.size());
+        assertEquals(Arrays.asList(student1, student2, student3, student4, student5), frozen);
+        assertEquals(Arrays.asList("a", "b"), FrozenStudentList.copyOf(Arrays.asList(new String[]{"a", "b"})));
+    }
+
+    @Test
+    void testCopyOfCopiesArraysOfUnknownCollections() {
+        Student[] shared = {student1, student2};
+        Collection<Student> leaky = new AbstractCollection<Student>() {
+            @Override
+            public Iterator<Student> iterator() {
+                return Arrays.asList(shared).iterator();
+            }
+
+            @Override
+            public int size() {
+                return shared.length;
+            }
+
+            @Override
+            public Object[] toArray() {
+                return shared;
+            }
+        };
+        FrozenStudentList<Student> frozen = FrozenStudentList.copyOf(leaky);
+
+        shared[0] = student5;
+
+        assertEquals(Arrays.asList(student1, student2), frozen);
+    }
+
+    @Test
+    void testMutatorsAreRejected() {
+        FrozenStudentList<Student> frozen = studentList.drainToFrozen();
+        List<Student> empty = frozen.subList(2, 2);
+
+        assertThrows(UnsupportedOperationException.class, () -> frozen.add(student1));
+        assertThrows(UnsupportedOperationException.class, () -> frozen.set(0, student1));
+        assertThrows(UnsupportedOperationException.class, () -> frozen.remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> frozen.removeIf(s -> false));
+        assertThrows(UnsupportedOperationException.class, () -> frozen.sort(null));
+        assertThrows(UnsupportedOperationException.class, empty::clear);
+        assertThrows(UnsupportedOperationException.class, () -> {
+            Iterator<Student> iterator = frozen.iterator();
+            iterator.next();
+            iterator.remove();
+        });
+        assertThrows(UnsupportedOperationException.class, () -> {
+            ListIterator<Student> iterator = frozen.listIterator();
+            iterator.next();
+            iterator.set(student2);
+        });
+    }
+
+    @Test
+    void testSubListsShareTheArray() {
+        FrozenStudentList<Student> frozen = studentList.drainToFrozen();
+        FrozenStudentList<Student> middle = frozen.subList(1, 4);
+        FrozenStudentList<Student> inner = middle.subList(1, 3);
+
+        assertEquals(Arrays.asList(student2, student3, student4), middle);
+        assertEquals(Arrays.asList(student3, student4), inner);
+        assertEquals(1, inner.indexOf(student4));
+        assertEquals(-1, inner.indexOf(student5));
+        assertSame(frozen, frozen.subList(0, 5));
+        assertThrows(IndexOutOfBoundsException.class, () -> inner.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> middle.subList(0, 4));
+        assertEquals("Val,George", inner.stream().map(Student::getName).collect(Collectors.joining(",")));
+    }
+
+    @Test
+    void testCopyOfAvoidsCopyingFrozenLists() {
+        FrozenStudentList<Student> frozen = studentList.drainToFrozen();
+
+        assertSame(frozen, FrozenStudentList.copyOf(frozen));
+        assertSame(FrozenStudentList.of(), FrozenStudentList.copyOf(new ArrayList<Student>()));
+        assertEquals(frozen, FrozenStudentList.copyOf(new ArrayList<>(frozen)));
+    }
+
+    @Test
+    void testHashCodeAndEquals() {
+        FrozenStudentList<Student> frozen = studentList.drainToFrozen();
+        List<Student> expected = Arrays.asList(student2, student3);
+
+        assertEquals(expected.hashCode(), frozen.subList(1, 3).hashCode());
+        assertEquals(expected, frozen.subList(1, 3));
+        assertEquals(frozen.subList(1, 3), expected);
+        assertEquals(frozen.subList(1, 3), FrozenStudentList.copyOf(expected));
+        assertNotEquals(frozen.subList(1, 3), frozen.subList(2, 4));
+    }
+
+    @Test
+    void testToStudentListIsMutableCopy() {
+        FrozenStudentList<Student> frozen = studentList.drainToFrozen();
+        StudentList<Student> copy = frozen.subList(3, 5).toStudentList();
+
+        copy.add(student1);
+
+        assertArrayEquals(new Student[]{student4, student5, student1}, copy.toArray());
+        assertEquals(5, frozen.size());
+    }
+
+    @Test
+    void testSharedAcrossThreads() throws InterruptedException {
+        FrozenStudentList<Student> frozen = studentList.drainToFrozen();
+        Set<Integer> hashes = ConcurrentHashMap.newKeySet();
+        Thread[] readers = new Thread[4];
+        for (int t = 0; t < readers.length; t++) {
+            readers[t] = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    hashes.add(frozen.subList(1, 4).hashCode());
+                }
+            });
+            readers[t].start();
+        }
+        for (Thread reader : readers) {
+            reader.join();
+        }
+
+        assertEquals(Collections.singleton(Arrays.asList(student2, student3, student4).hashCode()), hashes);
+    }
+}
@@ -0,0 +1,76 @@
+package com.endava.internship.collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GapStudentListTest {
+    private GapStudentList<Student> studentList;
+    private final Student student1 = new Student("Bobby", LocalDate.of(2001, 5, 26), "loser");
+    private final Student student2 = new Student("Bob", LocalDate.of(2000, 5, 26), "chad");
+    private final Student student3 = new Student("Val", LocalDate.of(2002, 5, 26), "nothing");
+
+    @BeforeEach
+    void setUp() {
+        studentList = new GapStudentList<>(0);
+    }
+
+    @Test
+    void testInsertAroundCursor() {
+        Collections.addAll(studentList, student1, student3);
+        studentList.add(1, student2);
+        studentList.add(2, student1);
+
+        assertArrayEquals(new Student[]{student1, student2, student1, student3}, studentList.toArray());
+        assertEquals(2, studentList.lastIndexOf(student1));
+        assertEquals(3, studentList.indexOf(student3));
+    }
+
+    @Test
+    void testIteratorIsFailFast() {
+        Collections.addAll(studentList, student1, student2);
+        Iterator<Student> iterator = studentList.iterator();
+        studentList.add(0, student3);
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    void testOutOfBounds() {
+        assertThrows(IndexOutOfBoundsException.class, () -> studentList.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> studentList.add(1, student1));
+        assertThrows(IllegalArgumentException.class, () -> new GapStudentList<Student>(-1));
+    }
+
+    @Test
+    void testMatchesArrayListAfterRandomOperations() {
+        Student[] pool = {student1, student2, student3, null};
+        List<Student> expected = new ArrayList<>();
+        Random random = new Random(23);
+        for (int step = 0; step < 5000; step++) {
+            Student student = pool[random.nextInt(pool.length)];
+            int operation = random.nextInt(4);
+            if (operation < 2 || expected.isEmpty()) {
+                int i = random.nextInt(expected.size() + 1);
+                expected.add(i, student);
+                studentList.add(i, student);
+            } else if (operation == 2) {
+                int i = random.nextInt(expected.size());
+                assertEquals(expected.remove(i), studentList.remove(i));
+            } else {
+                int i = random.nextInt(expected.size());
+                assertEquals(expected.set(i, student), studentList.set(i, student));
+            }
+            assertEquals(expected.size(), studentList.size());
+        }
+
+        assertEquals(expected, studentList);
+        assertArrayEquals(expected.toArray(), studentList.toArray());
+        studentList.clear();
+        assertTrue(studentList.isEmpty());
+    }
+}
@@ -0,0 +1,224 @@
+package com.endava.internship.collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IntStudentListTest {
+    private IntStudentList studentAges;
+
+    @BeforeEach
+    void setUp() {
+        studentAges = IntStudentList.of(21, 22, 20, 22, 19);
+    }
+
+    @Test
+    void testAddRemoveAndLookup() {
+        studentAges.add(0, 18);
+        studentAges.add(23);
+
+        assertArrayEquals(new int[]{18, 21, 22, 20, 22, 19, 23}, studentAges.toArray());
+        assertEquals(22, studentAges.removeAt(2));
+        assertEquals(3, studentAges.indexOf(22));
+        assertEquals(3, studentAges.lastIndexOf(22));
+        assertTrue(studentAges.contains(23));
+        assertFalse(studentAges.contains(22 + 100));
+        assertEquals(6, studentAges.size());
+    }
+
+    @Test
+    void testSetReturnsReplacedValue() {
+        assertEquals(20, studentAges.set(2, 30));
+        assertEquals(30, studentAges.get(2));
+    }
+
+    @Test
+    void testBulkOperations() {
+        assertTrue(studentAges.addAll(25, 26));
+        assertFalse(studentAges.addAll());
+        assertTrue(studentAges.removeIf(age -> age % 2 == 0));
+
+        assertArrayEquals(new int[]{21, 19, 25}, studentAges.toArray());
+        assertEquals(65L, studentAges.sum());
+        assertFalse(studentAges.removeIf(age -> age > 100));
+    }
+
+    @Test
+    void testSumDoesNotOverflow() {
+        IntStudentList large = IntStudentList.of(Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+        assertEquals(2L * Integer.MAX_VALUE, large.sum());
+    }
+
+    @Test
+    void testStreamCoversOnlyLiveValues() {
+        studentAges.removeAt(4);
+
+        assertEquals(85, studentAges.stream().sum());
+        assertEquals(2, studentAges.stream().filter(age -> age == 22).count());
+    }
+
+    @Test
+    void testIteratorIsFailFast() {
+        PrimitiveIterator.OfInt iterator = studentAges.iterator();
+        assertEquals(21, iterator.nextInt());
+        studentAges.add(40);
+
+        assertThrows(ConcurrentModificationException.class, iterator::nextInt);
+    }
+
+    @Test
+    void testIteratorEnd() {
+        PrimitiveIterator.OfInt iterator = new IntStudentList().iterator();
+
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::nextInt);
+    }
+
+    @Test
+    void testSubList() {
+        IntStudentList.SubList subList = studentAges.subList(1, 4);
+        subList.set(0, 40);
+
+        assertEquals(3, subList.size());
+        assertEquals(40, studentAges.get(1));
+        assertEquals(1, subList.indexOf(20));
+        assertEquals(-1, subList.indexOf(19));
+        assertEquals(82L, subList.sum());
+        assertEquals(82, subList.stream().sum());
+        assertArrayEquals(new int[]{40, 20, 22}, subList.toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> subList.get(3));
+
+        studentAges.add(1);
+        assertThrows(ConcurrentModificationException.class, subList::size);
+    }
+
+    @Test
+    void testSubListStructuralChanges() {
+        IntStudentList.SubList subList = studentAges.subList(1, 4);
+        subList.add(0, 18);
+        subList.add(30);
+        assertEquals(20, subList.removeAt(2));
+        assertTrue(subList.removeIf(age -> age == 22));
+
+        assertArrayEquals(new int[]{18, 30}, subList.toArray());
+        assertArrayEquals(new int[]{21, 18, 30, 19}, studentAges.toArray());
+        assertTrue(subList.contains(30));
+        assertFalse(subList.removeIf(age -> age > 100));
+
+        subList.clear();
+        assertTrue(subList.isEmpty());
+        assertArrayEquals(new int[]{21, 19}, studentAges.toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> subList.add(1, 1));
+    }
+
+    @Test
+    void testRemoveRange() {
+        studentAges.removeRange(1, 3);
+
+        assertArrayEquals(new int[]{21, 22, 19}, studentAges.toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> studentAges.removeRange(0, 4));
+        assertThrows(IllegalArgumentException.class, () -> studentAges.removeRange(2, 1));
+    }
+
+    @Test
+    void testRemoveIfThatThrowsKeepsListConsistent() {
+        IntStudentList ages = IntStudentList.of(1, 2, 3, 4);
+
+        assertThrows(IllegalStateException.class, () -> ages.removeIf(age -> {
+            if (age == 3) {
+                throw new IllegalStateException();
+            }
+            return age == 2;
+        }));
+        assertArrayEquals(new int[]{1, 3, 4}, ages.toArray());
+
+        IntStudentList.SubList subList = ages.subList(0, 2);
+        assertThrows(IllegalStateException.class, () -> subList.removeIf(age -> {
+            if (age == 3) {
+                throw new IllegalStateException();
+            }
+            return true;
+        }));
+        assertArrayEquals(new int[]{3}, subList.toArray());
+        assertArrayEquals(new int[]{3, 4}, ages.toArray());
+    }
+
+    @Test
+    void testSubListBounds() {
+        assertThrows(IndexOutOfBoundsException.class, () -> studentAges.subList(-1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> studentAges.subList(0, 6));
+        assertThrows(IllegalArgumentException.class, () -> studentAges.subList(3, 2));
+    }
+
+    @Test
+    void testBoxedView() {
+        List<Integer> boxed = studentAges.asList();
+        boxed.add(0, 18);
+        boxed.remove(Integer.valueOf(22));
+
+        assertEquals(Arrays.asList(18, 21, 20, 22, 19), boxed);
+        assertEquals("18,21,20,22,19", boxed.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        assertEquals(5, studentAges.size());
+    }
+
+    @Test
+    void testBoxedViewIsFailFast() {
+        List<Integer> boxed = studentAges.asList();
+        Iterator<Integer> iterator = boxed.iterator();
+        iterator.next();
+        studentAges.add(40);
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+
+        PrimitiveIterator.OfInt values = studentAges.iterator();
+        boxed.remove(0);
+        assertThrows(ConcurrentModificationException.class, values::nextInt);
+
+        List<Integer> boxedSubList = boxed.subList(0, 2);
+        boxed.add(0, 18);
+        assertThrows(ConcurrentModificationException.class, boxedSubList::size);
+    }
+
+    @Test
+    void testBoxedViewIterator() {
+        List<Integer> boxed = studentAges.asList();
+        boxed.removeIf(age -> age == 22);
+        ListIterator<Integer> iterator = boxed.listIterator(1);
+        iterator.add(18);
+        assertEquals(20, iterator.next());
+        iterator.set(30);
+        assertArrayEquals(new int[]{21, 18, 30, 19}, studentAges.toArray());
+
+        iterator.remove();
+        assertArrayEquals(new int[]{21, 18, 19}, studentAges.toArray());
+        assertThrows(IllegalStateException.class, () -> iterator.set(1));
+        assertEquals(18, iterator.previous());
+    }
+
+    @Test
+    void testGrowthAndCapacity() {
+        IntStudentList ages = new IntStudentList(0, GrowthPolicy.fixedIncrement(4));
+        for (int i = 0; i < 5; i++) {
+            ages.add(i);
+        }
+
+        assertEquals(8, ages.capacity());
+        ages.trimToSize();
+        assertEquals(5, ages.capacity());
+        ages.ensureCapacity(32);
+        assertEquals(32, ages.capacity());
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4}, ages.toArray());
+    }
+
+    @Test
+    void testOutOfBounds() {
+        assertThrows(IndexOutOfBoundsException.class, () -> studentAges.get(5));
+        assertThrows(IndexOutOfBoundsException.class, () -> studentAges.add(6, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> studentAges.removeAt(-1));
+        assertThrows(IllegalArgumentException.class, () -> new IntStudentList(-1));
+    }
+}
@@ -0,0 +1,165 @@
+package com.endava.internship.collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JournalApplierTest {
+    private StudentList<Student> source;
+    private StudentList<Student> replica;
+    private JournalApplier<Student> applier;
+    private final Student student1 = new Student("Bobby", LocalDate.of(2001, 5, 26), "loser");
+    private final Student student2 = new Student("Bob", LocalDate.of(2000, 5, 26), "chad");
+    private final Student student3 = new Student("Val", LocalDate.of(2002, 5, 26), "nothing");
+    private final Student student4 = new Student("George", LocalDate.of(2000, 5, 26), "learner");
+    private final Student student5 = new Student("Gaven", LocalDate.of(2001, 5, 26), "introverted");
+
+    @BeforeEach
+    void setUp() {
+        source = new StudentList<>();
+        source.enableJournal();
+        replica = new StudentList<>();
+        applier = new JournalApplier<>(replica);
+    }
+
+    @Test
+    void testReplicaFollowsRandomChanges() {
+        Student[] pool = {student1, student2, student3, student4, student5, null};
+        Random random = new Random(22);
+        for (int round = 0; round < 50; round++) {
+            for (int step = 0; step < 40; step++) {
+                mutate(random, pool);
+            }
+            applier.applyAll(source.journal().since(applier.appliedSequence()));
+
+            assertArrayEquals(source.toArray(), replica.toArray());
+            assertEquals(source.journal().lastSequence(), applier.appliedSequence());
+        }
+    }
+
+    @Test
+    void testReplaceAllThatThrowsJournalsTheReplacedPrefix() {
+        Collections.addAll(source, student1, student2, student3);
+        applier.applyAll(source.journal().since(0));
+
+        assertThrows(IllegalStateException.class, () -> source.replaceAll(s -> {
+            if (s == student2) {
+                throw new IllegalStateException();
+            }
+            return student4;
+        }));
+        applier.applyAll(source.journal().since(applier.appliedSequence()));
+
+        assertArrayEquals(new Student[]{student4, student2, student3}, source.toArray());
+        assertArrayEquals(source.toArray(), replica.toArray());
+    }
+
+    @Test
+    void testRedeliveredDeltasAreSkipped() {
+        Collections.addAll(source, student1, student2);
+        List<StudentJournal.Delta<Student>> deltas = source.journal().since(0);
+
+        applier.applyAll(deltas);
+
+        assertFalse(applier.apply(deltas.get(1)));
+        assertArrayEquals(new Student[]{student1, student2}, replica.toArray());
+    }
+
+    @Test
+    void testGapIsRejected() {
+        Collections.addAll(source, student1, student2, student3);
+        List<StudentJournal.Delta<Student>> deltas = source.journal().since(0);
+
+        applier.apply(deltas.get(0));
+
+        assertThrows(IllegalStateException.class, () -> applier.apply(deltas.get(2)));
+        assertArrayEquals(new Student[]{student1}, replica.toArray());
+    }
+
+    @Test
+    void testMismatchedRemovePositionsLeaveReplicaUnchanged() {
+        Collections.addAll(source, student1, student2, student3, student4, student5);
+        long sequence = source.journal().lastSequence();
+        source.removeIf(s -> s == student2 || s == student5);
+        StudentList<Student> shorter = new StudentList<>(Arrays.asList(student1, student2, student3, student4));
+
+        JournalApplier<Student> late = new JournalApplier<>(shorter, sequence);
+        List<StudentJournal.Delta<Student>> deltas = source.journal().since(sequence);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> late.apply(deltas.get(0)));
+        assertArrayEquals(new Student[]{student1, student2, student3, student4}, shorter.toArray());
+        assertEquals(sequence, late.appliedSequence());
+    }
+
+    @Test
+    void testReplicaCanCatchUpFromTruncatedJournal() {
+        Collections.addAll(source, student1, student2, student3);
+        StudentList<Student> copy = new StudentList<>(source);
+        long sequence = source.journal().lastSequence();
+        source.journal().truncate(sequence);
+        source.remove(student2);
+        source.sort(Comparator.comparing(Student::getName).reversed());
+
+        JournalApplier<Student> late = new JournalApplier<>(copy, sequence);
+        late.applyAll(source.journal().since(late.appliedSequence()));
+
+        assertArrayEquals(new Student[]{student3, student1}, copy.toArray());
+    }
+
+    private void mutate(Random random, Student[] pool) {
+        Student student = pool[random.nextInt(pool.length)];
+        int size = source.size();
+        switch (random.nextInt(12)) {
+            case 0:
+            case 1:
+                source.add(student);
+                break;
+            case 2:
+                source.add(random.nextInt(size + 1), student);
+                break;
+            case 3:
+                if (size > 0) {
+                    source.set(random.nextInt(size), student);
+                }
+                break;
+            case 4:
+                if (size > 0) {
+                    source.remove(random.nextInt(size));
+                }
+                break;
+            case 5:
+                source.addAll(random.nextInt(size + 1), Arrays.asList(student, pool[random.nextInt(pool.length)]));
+                break;
+            case 6:
+                source.removeIf(s -> s == student);
+                break;
+            case 7:
+                if (size > 1) {
+                    int from = random.nextInt(size);
+                    source.subList(from, from + random.nextInt(size - from)).clear();
+                }
+                break;
+            case 8:
+                source.retainAll(Arrays.asList(student1, student2, student3, null));
+                break;
+            case 9:
+                source.replaceAll(s -> s == student ? student5 : s);
+                break;
+            case 10:
+                source.removeIf(Objects::isNull);
+                source.sort(Comparator.comparing(Student::getName));
+                break;
+            default:
+                if (random.nextInt(10) == 0) {
+                    source.clear();
+                } else {
+                    source.addAll(Arrays.asList(pool).subList(0, random.nextInt(pool.length)));
+                }
+                break;
+        }
+    }
+}
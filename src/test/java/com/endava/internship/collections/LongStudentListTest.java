@@ -0,0 +1,163 @@
+package com.endava.internship.collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LongStudentListTest {
+    private LongStudentList birthDays;
+
+    @BeforeEach
+    void setUp() {
+        birthDays = LongStudentList.of(
+                LocalDate.of(2001, 5, 26).toEpochDay(),
+                LocalDate.of(2000, 5, 26).toEpochDay(),
+                LocalDate.of(2002, 5, 26).toEpochDay());
+    }
+
+    @Test
+    void testAddRemoveAndLookup() {
+        long george = LocalDate.of(2000, 5, 26).toEpochDay();
+        birthDays.add(1, george);
+
+        assertEquals(1, birthDays.indexOf(george));
+        assertEquals(2, birthDays.lastIndexOf(george));
+        assertEquals(george, birthDays.removeAt(1));
+        assertEquals(3, birthDays.size());
+    }
+
+    @Test
+    void testStreamAndBulkOperations() {
+        long cutoff = LocalDate.of(2001, 1, 1).toEpochDay();
+
+        assertEquals(2, birthDays.stream().filter(day -> day >= cutoff).count());
+        assertTrue(birthDays.removeIf(day -> day < cutoff));
+        assertEquals(birthDays.stream().sum(), birthDays.sum());
+        assertEquals(2, birthDays.size());
+    }
+
+    @Test
+    void testIteratorAndSubListAreFailFast() {
+        PrimitiveIterator.OfLong iterator = birthDays.iterator();
+        LongStudentList.SubList subList = birthDays.subList(0, 2);
+        birthDays.clear();
+
+        assertThrows(ConcurrentModificationException.class, iterator::nextLong);
+        assertThrows(ConcurrentModificationException.class, () -> subList.get(0));
+    }
+
+    @Test
+    void testBoxedView() {
+        List<Long> boxed = birthDays.asList();
+
+        assertEquals(Long.valueOf(LocalDate.of(2000, 5, 26).toEpochDay()), boxed.get(1));
+        assertTrue(boxed.contains(LocalDate.of(2002, 5, 26).toEpochDay()));
+    }
+
+    @Test
+    void testSetReturnsReplacedValue() {
+        long val = LocalDate.of(2002, 5, 26).toEpochDay();
+        long gaven = LocalDate.of(2001, 5, 26).toEpochDay();
+
+        assertEquals(val, birthDays.set(2, gaven));
+        assertEquals(gaven, birthDays.get(2));
+        assertEquals(0, birthDays.indexOf(gaven));
+        assertEquals(2, birthDays.lastIndexOf(gaven));
+    }
+
+    @Test
+    void testIteratorEnd() {
+        PrimitiveIterator.OfLong iterator = birthDays.iterator();
+        for (int i = 0; i < 3; i++) {
+            iterator.nextLong();
+        }
+
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::nextLong);
+    }
+
+    @Test
+    void testSubList() {
+        long george = LocalDate.of(2000, 5, 26).toEpochDay();
+        LongStudentList.SubList subList = birthDays.subList(1, 3);
+        subList.add(0, george);
+        subList.set(1, george + 1);
+
+        assertEquals(3, subList.size());
+        assertEquals(george + 1, birthDays.get(2));
+        assertEquals(0, subList.indexOf(george));
+        assertEquals(LocalDate.of(2002, 5, 26).toEpochDay(), subList.removeAt(2));
+        assertEquals(2 * george + 1, subList.sum());
+        assertEquals(subList.sum(), subList.stream().sum());
+        assertTrue(subList.removeIf(day -> day == george));
+        assertArrayEquals(new long[]{george + 1}, subList.toArray());
+        assertEquals(2, birthDays.size());
+
+        subList.clear();
+        assertEquals(1, birthDays.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> subList.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> birthDays.subList(0, 2));
+        assertThrows(IllegalArgumentException.class, () -> birthDays.subList(1, 0));
+    }
+
+    @Test
+    void testRemoveIfThatThrowsKeepsListConsistent() {
+        LongStudentList days = LongStudentList.of(1L, 2L, 3L, 4L);
+
+        assertThrows(IllegalStateException.class, () -> days.removeIf(day -> {
+            if (day == 3L) {
+                throw new IllegalStateException();
+            }
+            return day == 2L;
+        }));
+        assertArrayEquals(new long[]{1L, 3L, 4L}, days.toArray());
+
+        LongStudentList.SubList subList = days.subList(1, 3);
+        assertThrows(IllegalStateException.class, () -> subList.removeIf(day -> {
+            if (day == 4L) {
+                throw new IllegalStateException();
+            }
+            return true;
+        }));
+        assertArrayEquals(new long[]{4L}, subList.toArray());
+        assertArrayEquals(new long[]{1L, 4L}, days.toArray());
+    }
+
+    @Test
+    void testBoxedViewIsFailFast() {
+        List<Long> boxed = birthDays.asList();
+        Iterator<Long> iterator = boxed.iterator();
+        iterator.next();
+        birthDays.add(0L);
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+
+        PrimitiveIterator.OfLong values = birthDays.iterator();
+        boxed.remove(3);
+        assertThrows(ConcurrentModificationException.class, values::nextLong);
+
+        ListIterator<Long> listIterator = boxed.listIterator();
+        listIterator.next();
+        listIterator.remove();
+        listIterator.add(7L);
+        assertEquals(Arrays.asList(7L, LocalDate.of(2000, 5, 26).toEpochDay(), LocalDate.of(2002, 5, 26).toEpochDay()), boxed);
+    }
+
+    @Test
+    void testGrowthAndBounds() {
+        LongStudentList days = new LongStudentList(1, GrowthPolicy.fixedIncrement(2));
+        days.addAll(1L, 2L, 3L, 4L);
+
+        assertEquals(4, days.capacity());
+        days.removeRange(1, 3);
+        days.trimToSize();
+        assertEquals(2, days.capacity());
+        assertArrayEquals(new long[]{1L, 4L}, days.toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> days.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> days.add(3, 1L));
+        assertThrows(IllegalArgumentException.class, () -> new LongStudentList(-1));
+    }
+}
@@ -0,0 +1,77 @@
+package com.endava.internship.collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MappedStudentListTest {
+    private final Student student1 = new Student("Bobby", LocalDate.of(2001, 5, 26), "loser");
+    private final Student student2 = new Student("Bob", LocalDate.of(2000, 5, 26), null);
+    private final Student student3 = new Student("Val", LocalDate.of(2002, 5, 26), "nothing");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testReopenKeepsElements() throws IOException {
+        Path path = directory.resolve("roster");
+        try (MappedStudentList list = MappedStudentList.open(path)) {
+            Collections.addAll(list, student1, student2, student3);
+            list.remove(1);
+            list.add(0, student2);
+        }
+
+        try (MappedStudentList list = MappedStudentList.open(path)) {
+            assertEquals(Arrays.asList(student2, student1, student3), list);
+            assertEquals("loser", list.detailsAt(1));
+            assertNull(list.detailsAt(0));
+        }
+    }
+
+    @Test
+    void testGrowsBeyondInitialMapping() throws IOException {
+        Path path = directory.resolve("roster");
+        List<Student> expected = new ArrayList<>();
+        try (MappedStudentList list = MappedStudentList.open(path)) {
+            for (int i = 0; i < 5000; i++) {
+                Student student = new Student("Student number " + i, LocalDate.of(2000, 1, 1).plusDays(i), "details " + i);
+                list.add(student);
+                expected.add(student);
+            }
+        }
+
+        try (MappedStudentList list = MappedStudentList.open(path)) {
+            assertEquals(expected, list);
+            assertEquals("details 4999", list.detailsAt(4999));
+        }
+    }
+
+    @Test
+    void testClearIsPersisted() throws IOException {
+        Path path = directory.resolve("roster");
+        try (MappedStudentList list = MappedStudentList.open(path)) {
+            Collections.addAll(list, student1, student2);
+            list.clear();
+            list.add(student3);
+        }
+
+        try (MappedStudentList list = MappedStudentList.open(path)) {
+            assertEquals(Collections.singletonList(student3), list);
+        }
+    }
+
+    @Test
+    void testOpenRejectsForeignFile() throws IOException {
+        Path path = directory.resolve("roster.csv");
+        Files.write(path, "name,dateOfBirth,details\nBob,2000-05-26,chad\n".getBytes());
+
+        assertThrows(IOException.class, () -> MappedStudentList.open(path));
+    }
+}
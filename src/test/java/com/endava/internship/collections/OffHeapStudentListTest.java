@@ -0,0 +1,130 @@
+package com.endava.internship.collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OffHeapStudentListTest {
+    private OffHeapStudentList studentList;
+    private final Student student1 = new Student("Bobby", LocalDate.of(2001, 5, 26), "loser");
+    private final Student student2 = new Student("Bob", LocalDate.of(2000, 5, 26), null);
+    private final Student student3 = new Student("Vălean", LocalDate.of(2002, 5, 26), "nothing");
+    private final Student student4 = new Student(null, null, null);
+
+    @BeforeEach
+    void setUp() {
+        studentList = new OffHeapStudentList(0);
+    }
+
+    @Test
+    void testRoundTripsStudents() {
+        Collections.addAll(studentList, student1, student2, student3, student4);
+
+        assertEquals(4, studentList.size());
+        assertEquals(Arrays.asList(student1, student2, student3), studentList.subList(0, 3));
+        assertNull(studentList.get(3).getName());
+        assertEquals("loser", studentList.get(0).getDetails());
+        assertEquals("Vălean", studentList.nameAt(2));
+        assertNull(studentList.detailsAt(1));
+        assertNull(studentList.dateOfBirthAt(3));
+        assertTrue(studentList.offHeapBytes() > 0);
+    }
+
+    @Test
+    void testInsertAndRemoveInTheMiddle() {
+        List<Student> expected = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            Student student = new Student("Student" + i, LocalDate.of(2000, 1, 1).plusDays(i), i % 2 == 0 ? "x" + i : null);
+            studentList.add(i / 2, student);
+            expected.add(i / 2, student);
+        }
+        assertEquals(expected.remove(11), studentList.remove(11));
+        assertEquals(expected.set(3, student3), studentList.set(3, student3));
+
+        assertEquals(expected, studentList);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getDetails(), studentList.detailsAt(i));
+        }
+    }
+
+    @Test
+    void testShiftsLongerThanOneChunk() {
+        List<Student> expected = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            expected.add(new Student("Student" + i, LocalDate.of(2000, 1, 1).plusDays(i % 5000), null));
+        }
+        studentList.addAll(expected);
+
+        studentList.add(1, student1);
+        expected.add(1, student1);
+        studentList.remove(2);
+        expected.remove(2);
+        studentList.add(9_000, student3);
+        expected.add(9_000, student3);
+        studentList.remove(0);
+        expected.remove(0);
+
+        assertEquals(expected, studentList);
+    }
+
+    @Test
+    void testFailedWritesLeaveRecordsUnchanged() {
+        Collections.addAll(studentList, student1, student2);
+        Student timeless = new Student("Tim", LocalDate.MAX, null);
+
+        assertThrows(IllegalArgumentException.class, () -> studentList.add(0, timeless));
+        assertThrows(IllegalArgumentException.class, () -> studentList.set(1, timeless));
+        assertThrows(IllegalArgumentException.class, () -> studentList.add(new Student("Tim", LocalDate.MIN, null)));
+
+        assertEquals(Arrays.asList(student1, student2), studentList);
+        assertEquals(-1, studentList.indexOf(timeless));
+    }
+
+    @Test
+    void testFullArenaLeavesRecordsUnchanged() {
+        OffHeapStudentList full = new OffHeapStudentList(1) {
+            @Override
+            ByteBuffer growArena(ByteBuffer arena, int used, int capacity) {
+                throw new IllegalStateException("String arena is full");
+            }
+        };
+        full.add(student1);
+
+        assertThrows(IllegalStateException.class, () -> full.add(0, student3));
+        assertThrows(IllegalStateException.class, () -> full.set(0, student3));
+        assertEquals(Collections.singletonList(student1), full);
+    }
+
+    @Test
+    void testCapacityBeyondOneBufferIsRejected() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> new OffHeapStudentList(120_000_000));
+
+        assertTrue(exception.getMessage().contains(String.valueOf(OffHeapStudentList.MAX_CAPACITY)), exception.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapStudentList(-1));
+    }
+
+    @Test
+    void testIndexOfReadsRecordsInPlace() {
+        Collections.addAll(studentList, student1, student2, student3, student4);
+
+        assertEquals(2, studentList.indexOf(new Student("Vălean", LocalDate.of(2002, 5, 26), "other")));
+        assertEquals(3, studentList.indexOf(student4));
+        assertEquals(-1, studentList.indexOf(new Student("Bob", LocalDate.of(2001, 5, 26), null)));
+        assertFalse(studentList.contains("Bob"));
+    }
+
+    @Test
+    void testClearReleasesArena() {
+        Collections.addAll(studentList, student1, student2);
+        studentList.clear();
+        studentList.add(student3);
+
+        assertEquals(Collections.singletonList(student3), studentList);
+    }
+}
@@ -0,0 +1,228 @@
+package com.endava.internship.collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PersistentStudentListTest {
+    private PersistentStudentList<Student> students;
+    private final Student student1 = new Student("Bobby", LocalDate.of(2001, 5, 26), "loser");
+    private final Student student2 = new Student("Bob", LocalDate.of(2000, 5, 26), "chad");
+    private final Student student3 = new Student("Val", LocalDate.of(2002, 5, 26), "nothing");
+    private final Student student4 = new Student("George", LocalDate.of(2000, 5, 26), "learner");
+    private final Student student5 = new Student("Gaven", LocalDate.of(2001, 5, 26), "introverted");
+
+    @BeforeEach
+    void setUp() {
+        students = PersistentStudentList.copyOf(Arrays.asList(student1, student2, student3, student4, student5));
+    }
+
+    @Test
+    void testUpdatesReturnNewVersions() {
+        PersistentStudentList<Student> set = students.with(1, student5);
+        PersistentStudentList<Student> appended = students.plus(student1);
+        PersistentStudentList<Student> popped = students.minusLast();
+
+        assertEquals(Arrays.asList(student1, student2, student3, student4, student5), students);
+        assertEquals(Arrays.asList(student1, student5, student3, student4, student5), set);
+        assertEquals(Arrays.asList(student1, student2, student3, student4, student5, student1), appended);
+        assertEquals(Arrays.asList(student1, student2, student3, student4), popped);
+    }
+
+    @Test
+    void testInsertAndRemoveInTheMiddle() {
+        assertEquals(Arrays.asList(student1, student3, student4, student5), students.minus(1));
+        assertEquals(Arrays.asList(student1, student2, student3, student4), students.minus(4));
+        assertEquals(Arrays.asList(student2, student1, student2, student3, student4, student5), students.plus(0, student2));
+        assertEquals(Arrays.asList(student1, student2, student3, student4, student5, student2), students.plus(5, student2));
+        assertEquals(5, students.size());
+    }
+
+    @Test
+    void testIndexesAreChecked() {
+        assertThrows(IndexOutOfBoundsException.class, () -> students.get(5));
+        assertThrows(IndexOutOfBoundsException.class, () -> students.with(-1, student1));
+        assertThrows(IndexOutOfBoundsException.class, () -> students.plus(6, student1));
+        assertThrows(IndexOutOfBoundsException.class, () -> students.minus(5));
+        assertThrows(NoSuchElementException.class, () -> PersistentStudentList.of().minusLast());
+    }
+
+    @Test
+    void testMutatorsAreRejected() {
+        assertThrows(UnsupportedOperationException.class, () -> students.add(student1));
+        assertThrows(UnsupportedOperationException.class, () -> students.set(0, student1));
+        assertThrows(UnsupportedOperationException.class, () -> students.remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> students.removeIf(s -> false));
+        assertThrows(UnsupportedOperationException.class, () -> students.sort(null));
+        assertThrows(UnsupportedOperationException.class, () -> students.subList(0, 2).clear());
+    }
+
+    @Test
+    void testCopyOfReturnsPersistentListUnchanged() {
+        assertSame(students, PersistentStudentList.copyOf(students));
+        assertSame(PersistentStudentList.of(), PersistentStudentList.copyOf(Collections.emptyList()));
+    }
+
+    @Test
+    void testAppendAndPopAcrossLevels() {
+        int count = 40_000;
+        List<PersistentStudentList<Integer>> versions = new ArrayList<>();
+        PersistentStudentList<Integer> list = PersistentStudentList.of();
+        for (int i = 0; i < count; i++) {
+            list = list.plus(i);
+            if (i % 997 == 0) {
+                versions.add(list);
+            }
+        }
+
+        assertEquals(count, list.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals(i, list.get(i));
+        }
+        for (int v = 0; v < versions.size(); v++) {
+            assertEquals(v * 997 + 1, versions.get(v).size());
+            assertEquals(v * 997, versions.get(v).get(v * 997));
+        }
+
+        while (!list.isEmpty()) {
+            list = list.minusLast();
+            if (list.size() % 1031 == 0 && !list.isEmpty()) {
+                assertEquals(list.size() - 1, list.get(list.size() - 1));
+                assertEquals(0, list.get(0));
+            }
+        }
+        assertEquals(Collections.emptyList(), list);
+    }
+
+    @Test
+    void testVersionsMatchModel() {
+        Random random = new Random(7);
+        List<Integer> model = new ArrayList<>();
+        PersistentStudentList<Integer> list = PersistentStudentList.of();
+        for (int i = 0; i < 3_000; i++) {
+            list = list.plus(i);
+            model.add(i);
+        }
+        List<List<Integer>> modelVersions = new ArrayList<>();
+        List<PersistentStudentList<Integer>> versions = new ArrayList<>();
+
+        for (int step = 0; step < 400; step++) {
+            int op = random.nextInt(4);
+            if (op == 0 || model.isEmpty()) {
+                int index = random.nextInt(model.size() + 1);
+                list = list.plus(index, -step);
+                model.add(index, -step);
+            } else if (op == 1) {
+                int index = random.nextInt(model.size());
+                list = list.minus(index);
+                model.remove(index);
+            } else if (op == 2) {
+                int index = random.nextInt(model.size());
+                list = list.with(index, step);
+                model.set(index, step);
+            } else {
+                list = list.minusLast();
+                model.remove(model.size() - 1);
+            }
+            versions.add(list);
+            modelVersions.add(new ArrayList<>(model));
+        }
+
+        for (int v = 0; v < versions.size(); v++) {
+            assertEquals(modelVersions.get(v), versions.get(v));
+        }
+    }
+
+    @Test
+    void testIterationWalksAllLeaves() {
+        PersistentStudentList.Builder<Integer> builder = PersistentStudentList.builder();
+        for (int i = 0; i < 1_100; i++) {
+            builder.add(i);
+        }
+        PersistentStudentList<Integer> list = builder.build();
+
+        List<Integer> iterated = new ArrayList<>();
+        list.iterator().forEachRemaining(iterated::add);
+        List<Integer> forEach = new ArrayList<>();
+        list.forEach(forEach::add);
+        Iterator<Integer> iterator = list.iterator();
+        for (int i = 0; i < list.size(); i++) {
+            iterator.next();
+        }
+
+        assertEquals(iterated, forEach);
+        assertEquals(1_100, iterated.size());
+        assertEquals(1_099, iterated.get(1_099));
+        assertEquals(list.size(), list.stream().count());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    void testBuilderDoesNotChangeBuiltVersions() {
+        PersistentStudentList.Builder<Integer> builder = PersistentStudentList.builder();
+        for (int i = 0; i < 2_000; i++) {
+            builder.add(i);
+        }
+        PersistentStudentList<Integer> first = builder.build();
+
+        builder.set(10, -1).set(1_999, -2).removeLast().add(-3);
+        for (int i = 0; i < 100; i++) {
+            builder.add(i);
+        }
+        PersistentStudentList<Integer> second = builder.build();
+
+        assertEquals(2_000, first.size());
+        assertEquals(10, first.get(10));
+        assertEquals(1_999, first.get(1_999));
+        assertEquals(2_100, second.size());
+        assertEquals(-1, second.get(10));
+        assertEquals(-3, second.get(1_999));
+        assertEquals(99, second.get(2_099));
+    }
+
+    @Test
+    void testBuilderFromVersionSharesIt() {
+        PersistentStudentList.Builder<Student> builder = students.toBuilder();
+        builder.set(0, student5).truncate(2).addAll(Arrays.asList(student3, student3));
+
+        assertEquals(Arrays.asList(student5, student2, student3, student3), builder.build());
+        assertEquals(Arrays.asList(student1, student2, student3, student4, student5), students);
+        assertEquals(student5, builder.get(0));
+        assertEquals(4, builder.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> builder.truncate(5));
+    }
+
+    @Test
+    void testBuilderTruncatesAcrossLevels() {
+        PersistentStudentList.Builder<Integer> builder = PersistentStudentList.builder();
+        for (int i = 0; i < 40_000; i++) {
+            builder.add(i);
+        }
+        PersistentStudentList<Integer> full = builder.build();
+
+        PersistentStudentList<Integer> truncated = builder.truncate(33).build();
+        PersistentStudentList<Integer> empty = builder.truncate(0).build();
+        PersistentStudentList<Integer> refilled = builder.add(7).build();
+
+        assertEquals(40_000, full.size());
+        assertEquals(39_999, full.get(39_999));
+        assertEquals(33, truncated.size());
+        assertEquals(32, truncated.get(32));
+        assertTrue(empty.isEmpty());
+        assertEquals(Collections.singletonList(7), refilled);
+    }
+
+    @Test
+    void testEqualsOtherLists() {
+        List<Student> other = new ArrayList<>(Arrays.asList(student1, student2, student3, student4, student5));
+
+        assertEquals(students, other);
+        assertEquals(other.hashCode(), students.hashCode());
+        assertEquals(3, students.indexOf(student4));
+        assertTrue(students.contains(student5));
+    }
+}
@@ -0,0 +1,157 @@
+package com.endava.internship.collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SnapshotStudentListTest {
+    private SnapshotStudentList<Student> studentList;
+    private final Student student1 = new Student("Bobby", LocalDate.of(2001, 5, 26), "loser");
+    private final Student student2 = new Student("Bob", LocalDate.of(2000, 5, 26), "chad");
+    private final Student student3 = new Student("Val", LocalDate.of(2002, 5, 26), "nothing");
+    private final Student student4 = new Student("George", LocalDate.of(2000, 5, 26), "learner");
+
+    @BeforeEach
+    void setUp() {
+        studentList = new SnapshotStudentList<>();
+    }
+
+    @Test
+    void testMutations() {
+        Collections.addAll(studentList, student1, student2, student3);
+        studentList.add(0, student4);
+        studentList.set(1, student3);
+
+        assertEquals(student2, studentList.remove(2));
+        assertTrue(studentList.remove(student3));
+        assertArrayEquals(new Student[]{student4, student3}, studentList.toArray());
+    }
+
+    @Test
+    void testBulkMutations() {
+        Collections.addAll(studentList, student1, student2, student3);
+
+        assertTrue(studentList.addAll(1, Arrays.asList(student4, student4)));
+        assertTrue(studentList.removeAll(Collections.singleton(student4)));
+        assertTrue(studentList.retainAll(Arrays.asList(student1, student3)));
+        assertFalse(studentList.removeIf(Objects::isNull));
+        assertArrayEquals(new Student[]{student1, student3}, studentList.toArray());
+    }
+
+    @Test
+    void testIteratorReadsSnapshot() {
+        Collections.addAll(studentList, student1, student2);
+        Iterator<Student> iterator = studentList.iterator();
+
+        studentList.clear();
+        studentList.add(student3);
+
+        assertEquals(student1, iterator.next());
+        assertEquals(student2, iterator.next());
+        assertFalse(iterator.hasNext());
+        assertThrows(UnsupportedOperationException.class, iterator::remove);
+    }
+
+    @Test
+    void testSubListReadsSnapshot() {
+        Collections.addAll(studentList, student1, student2, student3, student4);
+        List<Student> sub = studentList.subList(1, 3);
+
+        studentList.remove(student2);
+
+        assertEquals(2, sub.size());
+        assertEquals(student2, sub.get(0));
+        assertEquals(1, sub.indexOf(student3));
+        assertEquals(Collections.singletonList(student3), sub.subList(1, 2));
+        assertThrows(UnsupportedOperationException.class, () -> sub.add(student1));
+    }
+
+    @Test
+    void testConversionFromAndToStudentList() {
+        StudentList<Student> list = new StudentList<>();
+        Collections.addAll(list, student1, student2);
+
+        studentList = list.toSnapshot();
+        list.add(student3);
+        StudentList<Student> copy = studentList.toStudentList();
+        copy.add(student4);
+
+        assertTrue(list.size() == 1 && list.get(0) == student3);
+        assertArrayEquals(new Student[]{student1, student2}, studentList.toArray());
+        assertArrayEquals(new Student[]{student1, student2, student4}, copy.toArray());
+    }
+
+    @Test
+    void testEqualsOtherLists() {
+        Collections.addAll(studentList, student1, student2, student3);
+        List<Student> other = new ArrayList<>(studentList);
+
+        assertEquals(other, studentList);
+        assertEquals(studentList, other);
+        assertEquals(other.hashCode(), studentList.hashCode());
+        assertEquals(studentList, new SnapshotStudentList<>(other));
+        assertNotEquals(studentList, other.subList(0, 2));
+        assertNotEquals(studentList, new HashSet<>(other));
+    }
+
+    @Test
+    void testConstructorCopiesForeignArrays() {
+        Object[] shared = {"a", "b"};
+        Collection<Object> leaky = new AbstractCollection<Object>() {
+            @Override
+            public Iterator<Object> iterator() {
+                return Arrays.asList(shared).iterator();
+            }
+
+            @Override
+            public int size() {
+                return shared.length;
+            }
+
+            @Override
+            public Object[] toArray() {
+                return shared;
+            }
+        };
+        SnapshotStudentList<Object> list = new SnapshotStudentList<>(leaky);
+        SnapshotStudentList<Object> fromStrings = new SnapshotStudentList<>(Arrays.asList("x", "y"));
+
+        shared[0] = "changed";
+        fromStrings.set(0, 1);
+
+        assertEquals(Arrays.asList("a", "b"), list);
+        assertEquals(Arrays.asList(1, "y"), fromStrings);
+    }
+
+    @Test
+    void testAddAllAppendsUnderConcurrentChanges() throws InterruptedException {
+        AtomicBoolean done = new AtomicBoolean();
+        Thread writer = new Thread(() -> {
+            while (!done.get()) {
+                studentList.add(student2);
+                studentList.remove(student2);
+            }
+        });
+
+        writer.start();
+        int appended = 0;
+        try {
+            long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(200);
+            while (System.nanoTime() < end) {
+                studentList.addAll(Collections.singletonList(student3));
+                appended++;
+            }
+        } finally {
+            done.set(true);
+            writer.join();
+        }
+
+        assertEquals(Collections.nCopies(appended, student3), studentList);
+    }
+}
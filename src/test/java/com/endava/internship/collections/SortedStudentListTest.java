@@ -0,0 +1,111 @@
+package com.endava.internship.collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SortedStudentListTest {
+    private SortedStudentList<Student> studentList;
+    private final Student student1 = new Student("Bobby", LocalDate.of(2001, 5, 26), "loser");
+    private final Student student2 = new Student("Bob", LocalDate.of(2000, 5, 26), "chad");
+    private final Student student3 = new Student("Val", LocalDate.of(2002, 5, 26), "nothing");
+    private final Student student4 = new Student("George", LocalDate.of(2000, 5, 26), "learner");
+    private final Student student5 = new Student("Bob", LocalDate.of(1999, 1, 1), "namesake");
+
+    @BeforeEach
+    void setUp() {
+        studentList = new SortedStudentList<>();
+    }
+
+    @Test
+    void testAddKeepsNameOrder() {
+        Collections.addAll(studentList, student1, student2, student3, student4, student5);
+
+        assertArrayEquals(new Student[]{student2, student5, student1, student4, student3}, studentList.toArray());
+    }
+
+    @Test
+    void testJournalReplaysMergedBatch() {
+        studentList.enableJournal();
+        Collections.addAll(studentList, student3, student1);
+        studentList.addAll(Arrays.asList(student4, student5, student2));
+        StudentList<Student> replica = new StudentList<>();
+
+        new JournalApplier<>(replica).applyAll(studentList.journal().since(0));
+
+        assertArrayEquals(studentList.toArray(), replica.toArray());
+    }
+
+    @Test
+    void testAddAllMergesBatch() {
+        Collections.addAll(studentList, student3, student1);
+
+        assertTrue(studentList.addAll(Arrays.asList(student4, student5, student2)));
+        assertFalse(studentList.addAll(Collections.emptyList()));
+        assertArrayEquals(new Student[]{student5, student2, student1, student4, student3}, studentList.toArray());
+    }
+
+    @Test
+    void testConstructorForCollectionSorts() {
+        studentList = new SortedStudentList<>(Arrays.asList(student3, student1, student2));
+
+        assertArrayEquals(new Student[]{student2, student1, student3}, studentList.toArray());
+    }
+
+    @Test
+    void testIndexOfFindsEqualAmongNamesakes() {
+        Collections.addAll(studentList, student2, student5, student1, student2);
+
+        assertEquals(0, studentList.indexOf(student2));
+        assertEquals(2, studentList.lastIndexOf(student2));
+        assertEquals(1, studentList.indexOf(new Student("Bob", LocalDate.of(1999, 1, 1), "")));
+        assertFalse(studentList.contains(new Student("Bob", LocalDate.of(2003, 1, 1), "")));
+        assertFalse(studentList.contains(null));
+        assertFalse(studentList.contains("Bob"));
+    }
+
+    @Test
+    void testRemoveObject() {
+        Collections.addAll(studentList, student1, student2, student5);
+
+        assertTrue(studentList.remove(student5));
+        assertFalse(studentList.remove(student5));
+        assertArrayEquals(new Student[]{student2, student1}, studentList.toArray());
+    }
+
+    @Test
+    void testSortOnlyByNaturalOrder() {
+        Collections.addAll(studentList, student1, student2);
+
+        studentList.sort(null);
+
+        assertArrayEquals(new Student[]{student2, student1}, studentList.toArray());
+        assertThrows(UnsupportedOperationException.class, () -> studentList.sort(Comparator.reverseOrder()));
+    }
+
+    @Test
+    void testPositionalOperationsAreUnsupported() {
+        studentList.add(student1);
+
+        assertThrows(UnsupportedOperationException.class, () -> studentList.add(0, student2));
+        assertThrows(UnsupportedOperationException.class, () -> studentList.set(0, student2));
+        assertThrows(UnsupportedOperationException.class, () -> studentList.addAll(0, Collections.singleton(student2)));
+        assertThrows(UnsupportedOperationException.class, () -> studentList.listIterator().add(student2));
+        assertThrows(NullPointerException.class, () -> studentList.add(null));
+    }
+
+    @Test
+    void testReplaceAllIsUnsupported() {
+        Collections.addAll(studentList, student1, student2, student3);
+
+        assertThrows(UnsupportedOperationException.class, () -> studentList.replaceAll(s -> student4));
+        assertThrows(UnsupportedOperationException.class, () -> studentList.subList(0, 2).replaceAll(s -> student4));
+        assertThrows(UnsupportedOperationException.class, () -> studentList.subList(1, 3).set(0, student4));
+        assertArrayEquals(new Student[]{student2, student1, student3}, studentList.toArray());
+        assertEquals(2, studentList.indexOf(student3));
+    }
+}
@@ -0,0 +1,117 @@
+package com.endava.internship.collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StudentJournalTest {
+    private StudentList<Student> studentList;
+    private StudentJournal<Student> journal;
+    private final Student student1 = new Student("Bobby", LocalDate.of(2001, 5, 26), "loser");
+    private final Student student2 = new Student("Bob", LocalDate.of(2000, 5, 26), "chad");
+    private final Student student3 = new Student("Val", LocalDate.of(2002, 5, 26), "nothing");
+    private final Student student4 = new Student("George", LocalDate.of(2000, 5, 26), "learner");
+
+    @BeforeEach
+    void setUp() {
+        studentList = new StudentList<>();
+        journal = studentList.enableJournal();
+    }
+
+    @Test
+    void testRecordsEachChangeWithNextSequence() {
+        studentList.add(student1);
+        studentList.add(0, student2);
+        studentList.set(1, student3);
+        studentList.remove(0);
+        studentList.clear();
+
+        List<StudentJournal.Delta<Student>> deltas = journal.since(0);
+
+        assertEquals(5, deltas.size());
+        assertEquals(5, journal.lastSequence());
+        assertDelta(deltas.get(0), 1, StudentJournal.Operation.INSERT, 0, 1);
+        assertEquals(Collections.singletonList(student1), deltas.get(0).elements());
+        assertDelta(deltas.get(1), 2, StudentJournal.Operation.INSERT, 0, 1);
+        assertDelta(deltas.get(2), 3, StudentJournal.Operation.SET, 1, 1);
+        assertEquals(Collections.singletonList(student3), deltas.get(2).elements());
+        assertDelta(deltas.get(3), 4, StudentJournal.Operation.REMOVE, 0, 1);
+        assertDelta(deltas.get(4), 5, StudentJournal.Operation.CLEAR, 0, 0);
+    }
+
+    @Test
+    void testBulkChangesAreSingleDeltas() {
+        studentList.addAll(Arrays.asList(student1, student2, student3, student4));
+        studentList.subList(1, 3).clear();
+        studentList.addAll(1, Arrays.asList(student3, student2));
+        studentList.removeIf(s -> s == student1 || s == student2);
+
+        List<StudentJournal.Delta<Student>> deltas = journal.since(0);
+
+        assertEquals(4, deltas.size());
+        assertDelta(deltas.get(0), 1, StudentJournal.Operation.INSERT, 0, 4);
+        assertDelta(deltas.get(1), 2, StudentJournal.Operation.REMOVE, 1, 2);
+        assertDelta(deltas.get(2), 3, StudentJournal.Operation.INSERT, 1, 2);
+        assertDelta(deltas.get(3), 4, StudentJournal.Operation.REMOVE_POSITIONS, 0, 2);
+        assertArrayEquals(new int[]{0, 2}, deltas.get(3).positions());
+    }
+
+    @Test
+    void testSortIsRecordedAsReset() {
+        Collections.addAll(studentList, student3, student1, student2);
+        studentList.sort(null);
+
+        StudentJournal.Delta<Student> reset = journal.since(3).get(0);
+
+        assertDelta(reset, 4, StudentJournal.Operation.RESET, 0, 3);
+        assertEquals(Arrays.asList(student2, student1, student3), reset.elements());
+    }
+
+    @Test
+    void testUnchangedListRecordsNothing() {
+        Collections.addAll(studentList, student1, student2);
+        long sequence = journal.lastSequence();
+
+        studentList.removeIf(s -> false);
+        studentList.removeAll(Collections.singletonList(student3));
+        studentList.subList(1, 1).clear();
+        studentList.addAll(Collections.<Student>emptyList());
+
+        assertEquals(sequence, journal.lastSequence());
+        assertTrue(journal.since(sequence).isEmpty());
+    }
+
+    @Test
+    void testTruncate() {
+        Collections.addAll(studentList, student1, student2, student3);
+
+        journal.truncate(2);
+
+        assertEquals(1, journal.size());
+        assertEquals(3, journal.since(2).get(0).sequence());
+        assertThrows(IllegalStateException.class, () -> journal.since(1));
+    }
+
+    @Test
+    void testDisable() {
+        studentList.add(student1);
+        studentList.disableJournal();
+        studentList.add(student2);
+
+        assertNull(studentList.journal());
+        assertEquals(1, journal.lastSequence());
+        assertNotSame(journal, studentList.enableJournal());
+    }
+
+    private static void assertDelta(StudentJournal.Delta<Student> delta, long sequence, StudentJournal.Operation operation,
+                                    int index, int count) {
+        assertEquals(sequence, delta.sequence());
+        assertEquals(operation, delta.operation());
+        assertEquals(index, delta.index());
+        assertEquals(count, delta.count());
+    }
+}
@@ -0,0 +1,175 @@
+package com.endava.internship.collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StudentListCodecTest {
+    private final Student student1 = new Student("Bobby", LocalDate.of(2001, 5, 26), "loser");
+    private final Student student2 = new Student("Bob", LocalDate.of(2000, 5, 26), "chad");
+    private final Student student3 = new Student("Val", LocalDate.of(2002, 5, 26), "nothing");
+    private final Student student4 = new Student("George", LocalDate.of(2000, 5, 26), "learner");
+    private final Student student5 = new Student("Gaven", LocalDate.of(2001, 5, 26), "introverted");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testRoundTripThroughChannel() throws IOException {
+        StudentList<Student> students = new StudentList<>();
+        Collections.addAll(students, student1, student2, null, student3,
+                new Student(null, null, null), new Student("Ștefan 学生", LocalDate.of(1899, 12, 31), "über"));
+
+        StudentList<Student> read = StudentListCodec.read(Channels.newChannel(new ByteArrayInputStream(encode(students))));
+
+        assertIterableEquals(students, read);
+        assertDetailsEqual(students, read);
+    }
+
+    @Test
+    void testRepeatedStringsAreStoredOnce() throws IOException {
+        StudentList<Student> students = new StudentList<>();
+        for (int i = 0; i < 1000; i++) {
+            students.add(i % 2 == 0 ? student1 : student2);
+        }
+
+        byte[] encoded = encode(students);
+        StudentList<Student> read = StudentListCodec.read(Channels.newChannel(new ByteArrayInputStream(encoded)));
+
+        assertTrue(encoded.length < 5 * 1000 + 200, "bytes: " + encoded.length);
+        assertSame(read.get(0).getName(), read.get(2).getName());
+        assertSame(read.get(1).getDetails(), read.get(999).getDetails());
+    }
+
+    @Test
+    void testStringsLargerThanTheBuffer() throws IOException {
+        char[] details = new char[200_000];
+        Arrays.fill(details, 'x');
+        StudentList<Student> students = new StudentList<>();
+        Collections.addAll(students, student1, new Student("Long", LocalDate.of(2000, 1, 1), new String(details)), student3);
+        Path path = directory.resolve("roster.stl");
+
+        StudentListCodec.write(students, path);
+
+        assertDetailsEqual(students, StudentListCodec.read(path));
+        assertDetailsEqual(students, StudentListCodec.map(path));
+    }
+
+    @Test
+    void testMappedViewDecodesOnAccess() throws IOException {
+        Student[] pool = {student1, student2, student3, student4, student5, null};
+        StudentList<Student> students = new StudentList<>();
+        for (int i = 0; i < 1000; i++) {
+            Student student = pool[i % pool.length];
+            students.add(student == null ? null : new Student(student.getName() + i, student.getDateOfBirth().plusDays(i), student.getDetails()));
+        }
+        Path path = directory.resolve("roster.stl");
+        StudentListCodec.write(students, path);
+
+        List<Student> mapped = StudentListCodec.map(path);
+
+        assertEquals(1000, mapped.size());
+        assertEquals(students.get(130), mapped.get(130));
+        assertNull(mapped.get(5));
+        assertEquals(students.get(999), mapped.get(999));
+        assertEquals(students.get(64), mapped.get(64));
+        assertIterableEquals(students, new ArrayList<>(mapped));
+        assertIterableEquals(students, mapped);
+        assertThrows(IndexOutOfBoundsException.class, () -> mapped.get(1000));
+    }
+
+    @Test
+    void testExtremeDatesRoundTrip() throws IOException {
+        List<Student> students = Arrays.asList(
+                new Student("Max", LocalDate.ofEpochDay(Integer.MAX_VALUE), null),
+                new Student("Min", LocalDate.ofEpochDay(Integer.MIN_VALUE), null),
+                new Student("Last", LocalDate.MAX, "x"),
+                new Student("First", LocalDate.MIN, "y"));
+        Path path = directory.resolve("extremes.stl");
+        StudentListCodec.write(students, path);
+
+        StudentList<Student> read = StudentListCodec.read(Channels.newChannel(new ByteArrayInputStream(encode(students))));
+        List<Student> mapped = StudentListCodec.map(path);
+
+        for (int i = 0; i < students.size(); i++) {
+            assertEquals(students.get(i).getDateOfBirth(), read.get(i).getDateOfBirth());
+            assertEquals(students.get(i).getDateOfBirth(), mapped.get(i).getDateOfBirth());
+        }
+        assertIterableEquals(students, read);
+        assertIterableEquals(students, mapped);
+        assertDetailsEqual(students, read);
+    }
+
+    @Test
+    void testEmptyList() throws IOException {
+        Path path = directory.resolve("empty.stl");
+
+        StudentListCodec.write(new StudentList<>(), path);
+
+        assertTrue(StudentListCodec.read(path).isEmpty());
+        assertFalse(StudentListCodec.map(path).iterator().hasNext());
+    }
+
+    @Test
+    void testRejectsForeignAndTruncatedFiles() throws IOException {
+        Path foreign = Files.write(directory.resolve("foreign"), "name,dateOfBirth,details\n".getBytes());
+        byte[] encoded = encode(Arrays.asList(student1, student2, student3));
+        byte[] truncated = Arrays.copyOf(encoded, encoded.length - 12);
+
+        assertThrows(IOException.class, () -> StudentListCodec.read(foreign));
+        assertThrows(IOException.class, () -> StudentListCodec.map(foreign));
+        assertThrows(IOException.class, () -> StudentListCodec.read(Channels.newChannel(new ByteArrayInputStream(truncated))));
+    }
+
+    @Test
+    void testCorruptCountsAndOffsetsFailWithIOException() throws IOException {
+        byte[] encoded = encode(Arrays.asList(student1, student2, student3));
+        Path hugeCount = Files.write(directory.resolve("count"), withInt(encoded, 8, Integer.MAX_VALUE));
+        Path negativeDictionary = Files.write(directory.resolve("dictionary"), withInt(encoded, 12, -1));
+        Path badTrailer = Files.write(directory.resolve("trailer"), withInt(encoded, encoded.length - 4, encoded.length * 2));
+        Path truncated = Files.write(directory.resolve("truncated"), Arrays.copyOf(encoded, encoded.length - 6));
+
+        assertThrows(IOException.class, () -> StudentListCodec.read(hugeCount));
+        assertThrows(IOException.class, () -> StudentListCodec.map(hugeCount));
+        assertThrows(IOException.class, () -> StudentListCodec.read(Channels.newChannel(
+                new ByteArrayInputStream(withInt(encoded, 8, Integer.MAX_VALUE)))));
+        assertThrows(IOException.class, () -> StudentListCodec.read(negativeDictionary));
+        assertThrows(IOException.class, () -> StudentListCodec.map(negativeDictionary));
+        assertThrows(IOException.class, () -> StudentListCodec.map(badTrailer));
+        assertThrows(IOException.class, () -> StudentListCodec.map(truncated));
+    }
+
+    private static byte[] withInt(byte[] encoded, int offset, int value) {
+        byte[] corrupt = encoded.clone();
+        ByteBuffer.wrap(corrupt).putInt(offset, value);
+        return corrupt;
+    }
+
+    private static byte[] encode(List<Student> students) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        StudentListCodec.write(students, Channels.newChannel(bytes));
+        return bytes.toByteArray();
+    }
+
+    private static void assertDetailsEqual(List<Student> expected, List<Student> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            if (expected.get(i) == null) {
+                assertNull(actual.get(i));
+            } else {
+                assertEquals(expected.get(i).getDetails(), actual.get(i).getDetails());
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.endava.internship.collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StudentListMetricsTest {
+    private StudentList<Student> studentList;
+    private StudentListMetrics metrics;
+    private final Student student1 = new Student("Bobby", LocalDate.of(2001, 5, 26), "loser");
+    private final Student student2 = new Student("Bob", LocalDate.of(2000, 5, 26), "chad");
+    private final Student student3 = new Student("Val", LocalDate.of(2002, 5, 26), "nothing");
+    private final Student student4 = new Student("George", LocalDate.of(2000, 5, 26), "learner");
+
+    @BeforeEach
+    void setUp() {
+        studentList = new StudentList<>(2);
+        metrics = new StudentListMetrics();
+        studentList.setListener(metrics);
+    }
+
+    @Test
+    void testCountsOperations() {
+        studentList.add(student1);
+        studentList.add(student2);
+        studentList.get(0);
+        studentList.set(1, student3);
+        studentList.contains(student4);
+        studentList.remove(0);
+        studentList.clear();
+
+        assertEquals(2, metrics.count(StudentListListener.Operation.ADD));
+        assertEquals(1, metrics.count(StudentListListener.Operation.GET));
+        assertEquals(1, metrics.count(StudentListListener.Operation.SET));
+        assertEquals(1, metrics.count(StudentListListener.Operation.CONTAINS));
+        assertEquals(0, metrics.count(StudentListListener.Operation.INDEX_OF));
+        assertEquals(1, metrics.count(StudentListListener.Operation.REMOVE));
+        assertEquals(1, metrics.count(StudentListListener.Operation.CLEAR));
+    }
+
+    @Test
+    void testElementsShifted() {
+        Collections.addAll(studentList, student1, student2, student3);
+        studentList.add(0, student4);
+        studentList.remove(1);
+        studentList.subList(0, 1).clear();
+
+        assertEquals(3 + 2 + 2, metrics.getElementsShifted());
+    }
+
+    @Test
+    void testElementsScanned() {
+        Collections.addAll(studentList, student1, student2, student3);
+        studentList.indexOf(student2);
+        studentList.lastIndexOf(student3);
+        studentList.indexOf(student4);
+
+        assertEquals(2 + 1 + 3, metrics.getElementsScanned());
+    }
+
+    @Test
+    void testSortedContainsScansLogarithmically() {
+        SortedStudentList<Student> sorted = new SortedStudentList<>();
+        for (int i = 0; i < 1000; i++) {
+            sorted.add(new Student("Student" + i, LocalDate.of(2000, 1, 1), "learner"));
+        }
+        sorted.setListener(metrics);
+
+        assertTrue(sorted.contains(new Student("Student500", LocalDate.of(2000, 1, 1), "learner")));
+        assertFalse(sorted.contains(student3));
+
+        assertEquals(2, metrics.count(StudentListListener.Operation.CONTAINS));
+        assertEquals(0, metrics.count(StudentListListener.Operation.INDEX_OF));
+        assertTrue(metrics.getElementsScanned() <= 2 * (10 + 1));
+    }
+
+    @Test
+    void testBulkLoadIsCounted() throws IOException {
+        byte[] csv = "Val,2002-05-26,nothing\nBob,2000-05-26,chad\n".getBytes(StandardCharsets.UTF_8);
+
+        StudentLoader.load(Channels.newChannel(new ByteArrayInputStream(csv)),
+                StudentLoader.Format.CSV, studentList);
+
+        assertEquals(1, metrics.count(StudentListListener.Operation.ADD_ALL));
+        assertEquals(2, studentList.size());
+    }
+
+    @Test
+    void testResizes() {
+        Collections.addAll(studentList, student1, student2, student3, student4, student1);
+
+        assertEquals(studentList.resizeCount(), metrics.getResizeCount());
+        assertEquals(2, metrics.getResizeCount());
+        assertTrue(metrics.getBytesCopied() == (2 + 4) * 4 || metrics.getBytesCopied() == (2 + 4) * 8);
+    }
+
+    @Test
+    void testReset() {
+        studentList.add(student1);
+        studentList.indexOf(student2);
+
+        metrics.reset();
+
+        assertEquals(0, metrics.getElementsScanned());
+        assertEquals(0L, metrics.getOperationCounts().get("ADD"));
+    }
+
+    @Test
+    void testDetachedListenerSeesNothing() {
+        studentList.setListener(null);
+        studentList.add(student1);
+
+        assertNull(studentList.listener());
+        assertEquals(0, metrics.count(StudentListListener.Operation.ADD));
+    }
+
+    @Test
+    void testExposedOverJmx() throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = metrics.register("roster");
+        try {
+            Collections.addAll(studentList, student1, student2);
+            studentList.indexOf(student2);
+
+            assertEquals(2L, server.getAttribute(name, "ElementsScanned"));
+            TabularData counts = (TabularData) server.getAttribute(name, "OperationCounts");
+            assertEquals(2L, counts.get(new Object[]{"ADD"}).get("value"));
+            server.invoke(name, "reset", null, null);
+            assertEquals(0L, server.getAttribute(name, "ElementsScanned"));
+        } finally {
+            StudentListMetrics.unregister("roster");
+        }
+        assertFalse(server.isRegistered(name));
+    }
+}
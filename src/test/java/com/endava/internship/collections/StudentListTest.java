@@ -10,6 +10,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 
 import java.time.LocalDate;
 import java.util.*;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -55,6 +56,67 @@ public class StudentListTest {
         assertArrayEquals(s.toArray(), studentList.toArray());
     }
 
+    @Test
+    void testNewListForStorage() {
+        assertTrue(StudentList.newList(StudentList.Storage.ARRAY) instanceof StudentList);
+        assertTrue(StudentList.newList(StudentList.Storage.GAP_BUFFER) instanceof GapStudentList);
+    }
+
+    @Test
+    void testConstructorForCollectionSizesExactly() {
+        studentList = new StudentList<>(Arrays.asList(student1, student2, student3));
+
+        assertEquals(3, studentList.capacity());
+        assertEquals(0, studentList.resizeCount());
+    }
+
+    @Test
+    void testEnsureCapacityAvoidsResizing() {
+        studentList.ensureCapacity(100);
+        for (int i = 0; i < 100; i++) {
+            studentList.add(student1);
+        }
+
+        assertEquals(100, studentList.capacity());
+        assertEquals(1, studentList.resizeCount());
+    }
+
+    @Test
+    void testTrimToSize() {
+        Collections.addAll(studentList, student1, student2);
+
+        studentList.trimToSize();
+        assertEquals(2, studentList.capacity());
+        studentList.add(student3);
+
+        assertEquals(4, studentList.capacity());
+        assertArrayEquals(new Student[]{student1, student2, student3}, studentList.toArray());
+    }
+
+    @Test
+    void testGrowthPolicies() {
+        assertEquals(20, GrowthPolicy.doubling().grow(10, 11));
+        assertEquals(15, GrowthPolicy.factor(1.5).grow(10, 11));
+        assertEquals(30, GrowthPolicy.factor(1.5).grow(10, 30));
+        assertEquals(1, GrowthPolicy.factor(1.5).grow(0, 1));
+        assertEquals(1010, GrowthPolicy.fixedIncrement(1000).grow(10, 11));
+        assertEquals(1100, GrowthPolicy.capped(GrowthPolicy.doubling(), 100).grow(1000, 1001));
+        assertEquals(GrowthPolicy.MAX_CAPACITY, GrowthPolicy.doubling().grow(Integer.MAX_VALUE / 2 + 1, 10));
+        assertThrows(IllegalArgumentException.class, () -> GrowthPolicy.factor(1));
+        assertThrows(IllegalArgumentException.class, () -> GrowthPolicy.fixedIncrement(0));
+    }
+
+    @Test
+    void testListWithGrowthPolicy() {
+        studentList = new StudentList<>(4, GrowthPolicy.fixedIncrement(3));
+        for (int i = 0; i < 10; i++) {
+            studentList.add(student1);
+        }
+
+        assertEquals(10, studentList.capacity());
+        assertEquals(2, studentList.resizeCount());
+    }
+
     @Test
     void testDefaultConstructorSize() {
         assertEquals(0, studentList.size());
@@ -225,6 +287,54 @@ public class StudentListTest {
                     .contains(student2)
                     .doesNotContain(student1);
         }
+
+        @Test
+        void testNextAfterStructuralModification() {
+            studentList.add(student1);
+            studentList.add(student2);
+
+            Iterator<Student> iterator = studentList.iterator();
+            iterator.next();
+            studentList.add(student3);
+
+            assertThrows(ConcurrentModificationException.class, iterator::next);
+        }
+
+        @Test
+        void testNextAfterSetIsNotStructuralModification() {
+            studentList.add(student1);
+            studentList.add(student2);
+
+            Iterator<Student> iterator = studentList.iterator();
+            iterator.next();
+            studentList.set(1, student3);
+
+            assertEquals(student3, iterator.next());
+        }
+
+        @Test
+        void testRemoveAllElementsThroughIterator() {
+            Collections.addAll(studentList, student1, student2, student3);
+
+            Iterator<Student> iterator = studentList.iterator();
+            while (iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+
+            assertTrue(studentList.isEmpty());
+        }
+
+        @Test
+        void testForEachLoopWithRemoveThrows() {
+            Collections.addAll(studentList, student1, student2, student3);
+
+            assertThrows(ConcurrentModificationException.class, () -> {
+                for (Student s : studentList) {
+                    studentList.remove(s);
+                }
+            });
+        }
     }
 
     @Test
@@ -669,6 +779,15 @@ public class StudentListTest {
             assertThrows(IllegalStateException.class, () -> listIterator.set(student1));
         }
 
+        @Test
+        void testListIteratorAddAfterStructuralModification() {
+            studentList.add(student1);
+            ListIterator<Student> listIterator = studentList.listIterator();
+            studentList.remove(0);
+
+            assertThrows(ConcurrentModificationException.class, () -> listIterator.add(student2));
+        }
+
         @Test
         void testListIteratorAdd() {
             ListIterator<Student> listIterator = studentList.listIterator();
@@ -866,6 +985,344 @@ public class StudentListTest {
             assertArrayEquals(copyListView(1, 6), sub.toArray());
             assertArrayEquals(copyListView(2, 5), subsub.toArray());
         }
+
+        @Test
+        void testAccessAfterStructuralModificationOfRoot() {
+            studentList.add(0, student5);
+
+            assertThrows(ConcurrentModificationException.class, () -> sub.get(0));
+            assertThrows(ConcurrentModificationException.class, sub::size);
+            assertThrows(ConcurrentModificationException.class, () -> sub.add(student1));
+        }
+
+        @Test
+        void testAccessAfterStructuralModificationThroughSubList() {
+            List<Student> subsub = sub.subList(0, 1);
+            List<Student> sibling = studentList.subList(0, 2);
+
+            subsub.remove(0);
+
+            assertEquals(1, sub.size());
+            assertEquals(student3, sub.get(0));
+            assertThrows(ConcurrentModificationException.class, sibling::size);
+        }
+
+        @Test
+        void testIteratorAfterStructuralModificationOfRoot() {
+            Iterator<Student> iterator = sub.iterator();
+            studentList.remove(4);
+
+            assertThrows(ConcurrentModificationException.class, iterator::next);
+        }
+
+        @Test
+        void testSpliterator() {
+            Spliterator<Student> spliterator = sub.spliterator();
+            List<Student> traversed = new ArrayList<>();
+            spliterator.forEachRemaining(traversed::add);
+
+            assertEquals(2, sub.spliterator().getExactSizeIfKnown());
+            assertArrayEquals(sub.toArray(), traversed.toArray());
+        }
+
+        @Test
+        void testClearRemovesTheRangeFromTheRootList() {
+            List<Student> outer = studentList.subList(0, 4);
+            List<Student> inner = outer.subList(1, 3);
+
+            inner.clear();
+
+            assertTrue(inner.isEmpty());
+            assertEquals(Arrays.asList(student1, student4), outer);
+            assertArrayEquals(new Student[]{student1, student4, student5}, studentList.toArray());
+        }
+
+        @Test
+        void testAddAllInsertsIntoTheRootList() {
+            assertTrue(sub.addAll(Arrays.asList(student5, student1)));
+            assertTrue(sub.addAll(0, Collections.singletonList(student4)));
+            assertFalse(sub.addAll(Collections.<Student>emptyList()));
+
+            assertEquals(Arrays.asList(student4, student2, student3, student5, student1), sub);
+            assertEquals(8, studentList.size());
+            assertEquals(student4, studentList.get(6));
+        }
+
+        @Test
+        void testRemoveAllAndRetainAllStayInsideTheRange() {
+            assertTrue(sub.removeAll(Arrays.asList(student2, student5)));
+            assertFalse(sub.retainAll(Arrays.asList(student3, student1)));
+            assertTrue(sub.retainAll(Collections.singletonList(student1)));
+
+            assertTrue(sub.isEmpty());
+            assertArrayEquals(new Student[]{student1, student4, student5}, studentList.toArray());
+        }
+
+        @Test
+        void testIteratorRemoveAndAdd() {
+            ListIterator<Student> iterator = sub.listIterator();
+            assertEquals(student2, iterator.next());
+            iterator.remove();
+            iterator.add(student5);
+            assertEquals(student3, iterator.next());
+            assertEquals(student3, iterator.previous());
+            iterator.set(student4);
+
+            assertEquals(Arrays.asList(student5, student4), sub);
+            assertArrayEquals(new Student[]{student1, student5, student4, student4, student5}, studentList.toArray());
+            assertThrows(IllegalStateException.class, () -> {
+                iterator.remove();
+                iterator.remove();
+            });
+        }
+
+        @Test
+        void testIteratorIsFailFast() {
+            Iterator<Student> iterator = sub.iterator();
+            studentList.add(student1);
+
+            assertThrows(ConcurrentModificationException.class, iterator::next);
+        }
+
+        @Test
+        void testIteratorForEachRemaining() {
+            Iterator<Student> iterator = sub.iterator();
+            iterator.next();
+            List<Student> rest = new ArrayList<>();
+            iterator.forEachRemaining(rest::add);
+
+            assertEquals(Collections.singletonList(student3), rest);
+            assertFalse(iterator.hasNext());
+        }
+
+        @Test
+        void testForEachVisitsOnlyTheRange() {
+            List<Student> visited = new ArrayList<>();
+
+            sub.forEach(visited::add);
+
+            assertEquals(Arrays.asList(student2, student3), visited);
+        }
+
+        @Test
+        void testReplaceAllChangesOnlyTheRange() {
+            sub.replaceAll(s -> student5);
+
+            assertArrayEquals(new Student[]{student1, student5, student5, student4, student5}, studentList.toArray());
+            assertEquals(Arrays.asList(student5, student5), sub);
+        }
+
+        @Test
+        void testSubListIsUsableAfterReplaceAllThrows() {
+            assertThrows(IllegalStateException.class, () -> sub.replaceAll(s -> {
+                if (s == student3) {
+                    throw new IllegalStateException();
+                }
+                return student5;
+            }));
+
+            assertEquals(2, sub.size());
+            assertEquals(Arrays.asList(student5, student3), sub);
+            sub.add(student1);
+            assertArrayEquals(new Student[]{student1, student5, student3, student1, student4, student5}, studentList.toArray());
+        }
+
+        @Test
+        void testSubListIsUsableAfterRemoveIfThrows() {
+            assertThrows(IllegalStateException.class, () -> sub.removeIf(s -> {
+                if (s == student3) {
+                    throw new IllegalStateException();
+                }
+                return true;
+            }));
+
+            assertEquals(Collections.singletonList(student3), sub);
+            assertArrayEquals(new Student[]{student1, student3, student4, student5}, studentList.toArray());
+        }
+
+        @Test
+        void testRemoveIfCompactsTheRootList() {
+            assertTrue(sub.removeIf(s -> s == student3 || s == student4));
+            assertFalse(sub.removeIf(s -> s == student4));
+
+            assertEquals(1, sub.size());
+            assertArrayEquals(new Student[]{student1, student2, student4, student5}, studentList.toArray());
+        }
+
+        @Test
+        void testRemoveIfInvalidatesOtherViews() {
+            List<Student> other = studentList.subList(0, 2);
+
+            sub.removeIf(s -> s == student2);
+
+            assertThrows(ConcurrentModificationException.class, other::size);
+            assertEquals(student3, sub.get(0));
+        }
+    }
+
+    @Nested
+    class TestHashIndex {
+
+        @BeforeEach
+        void setUp() {
+            studentList.enableIndex();
+        }
+
+        @Test
+        void testIndexBuiltFromExistingElements() {
+            studentList.disableIndex();
+            Collections.addAll(studentList, student1, student2, student1);
+            studentList.enableIndex();
+
+            assertTrue(studentList.isIndexed());
+            assertTrue(studentList.contains(student1));
+            assertFalse(studentList.contains(student3));
+            assertEquals(1, studentList.indexOf(student2));
+        }
+
+        @Test
+        void testAppendAndRemoveFromEnd() {
+            Collections.addAll(studentList, student1, student2, student1);
+
+            assertEquals(0, studentList.indexOf(student1));
+            assertEquals(2, studentList.lastIndexOf(student1));
+            studentList.remove(2);
+            studentList.remove(1);
+            assertFalse(studentList.contains(student2));
+            assertEquals(-1, studentList.lastIndexOf(student2));
+            assertEquals(0, studentList.indexOf(student1));
+        }
+
+        @Test
+        void testMiddleInsertAndRemoveShiftPositions() {
+            Collections.addAll(studentList, student1, student2, student3);
+
+            studentList.add(0, student4);
+            assertEquals(2, studentList.indexOf(student2));
+            studentList.remove(student1);
+            assertEquals(1, studentList.indexOf(student2));
+            studentList.addAll(1, Arrays.asList(student5, null));
+            assertEquals(2, studentList.indexOf(null));
+            assertEquals(3, studentList.indexOf(student2));
+        }
+
+        @Test
+        void testSetAndSubListSet() {
+            Collections.addAll(studentList, student1, student2, student1);
+
+            studentList.set(0, student3);
+            assertEquals(2, studentList.indexOf(student1));
+            studentList.subList(1, 3).set(0, student1);
+            assertEquals(1, studentList.indexOf(student1));
+            assertFalse(studentList.contains(student2));
+        }
+
+        @Test
+        void testBulkOperationsAndClear() {
+            Collections.addAll(studentList, student1, student2, student3, student4, student5);
+
+            studentList.removeAll(Arrays.asList(student1, student3));
+            assertEquals(1, studentList.indexOf(student4));
+            studentList.sort(null);
+            assertEquals(0, studentList.indexOf(student2));
+            assertEquals(1, studentList.indexOf(student5));
+            studentList.clear();
+            assertFalse(studentList.contains(student2));
+            studentList.add(student2);
+            assertEquals(0, studentList.indexOf(student2));
+        }
+
+        @Test
+        void testMatchesLinearSearchAfterRandomOperations() {
+            Student[] pool = {student1, student2, student3, student4, student5, null};
+            List<Student> expected = new ArrayList<>();
+            Random random = new Random(17);
+            for (int step = 0; step < 2000; step++) {
+                Student student = pool[random.nextInt(pool.length)];
+                int operation = random.nextInt(5);
+                if (operation == 0 || expected.isEmpty()) {
+                    expected.add(student);
+                    studentList.add(student);
+                } else if (operation == 1) {
+                    int i = random.nextInt(expected.size() + 1);
+                    expected.add(i, student);
+                    studentList.add(i, student);
+                } else if (operation == 2) {
+                    int i = random.nextInt(expected.size());
+                    assertEquals(expected.remove(i), studentList.remove(i));
+                } else if (operation == 3) {
+                    int i = random.nextInt(expected.size());
+                    assertEquals(expected.set(i, student), studentList.set(i, student));
+                }
+                for (Student s : pool) {
+                    assertEquals(expected.indexOf(s), studentList.indexOf(s));
+                    assertEquals(expected.contains(s), studentList.contains(s));
+                }
+            }
+        }
+    }
+
+    @Nested
+    class TestInnerClassSpliterator {
+
+        @Test
+        void testCharacteristics() {
+            Spliterator<Student> spliterator = studentList.spliterator();
+
+            assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+            assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+            assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+        }
+
+        @Test
+        void testTrySplitOnEmptyList() {
+            assertNull(studentList.spliterator().trySplit());
+        }
+
+        @Test
+        void testTrySplitInHalves() {
+            Collections.addAll(studentList, student1, student2, student3, student4, student5);
+            Spliterator<Student> second = studentList.spliterator();
+            Spliterator<Student> first = second.trySplit();
+            List<Student> traversed = new ArrayList<>();
+
+            assertEquals(2, first.estimateSize());
+            assertEquals(3, second.estimateSize());
+            while (first.tryAdvance(traversed::add)) {
+            }
+            second.forEachRemaining(traversed::add);
+
+            assertFalse(second.tryAdvance(traversed::add));
+            assertArrayEquals(studentList.toArray(), traversed.toArray());
+        }
+
+        @Test
+        void testForEachRemainingAfterStructuralModification() {
+            Collections.addAll(studentList, student1, student2, student3);
+
+            assertThrows(ConcurrentModificationException.class,
+                    () -> studentList.spliterator().forEachRemaining(s -> studentList.add(s)));
+        }
+
+        @Test
+        void testParallelStream() {
+            for (int i = 0; i < 10_000; i++) {
+                studentList.add(new Student("Student" + i, LocalDate.of(2000, 1, 1).plusDays(i), ""));
+            }
+
+            List<String> names = studentList.parallelStream()
+                    .filter(s -> s.getDateOfBirth().getDayOfMonth() == 1)
+                    .map(Student::getName)
+                    .collect(Collectors.toList());
+
+            List<String> expected = new ArrayList<>();
+            for (Student s : studentList) {
+                if (s.getDateOfBirth().getDayOfMonth() == 1) {
+                    expected.add(s.getName());
+                }
+            }
+            assertEquals(expected, names);
+        }
     }
 
     @Test
@@ -965,6 +1422,33 @@ public class StudentListTest {
                 Arguments.of(student5, 4));
     }
 
+    @Test
+    void testAddAllOnMiddleIndexShiftsTail() {
+        Collections.addAll(studentList, student1, student2, student3);
+        List<Student> expected = new ArrayList<>(studentList);
+
+        assertTrue(studentList.addAll(1, Arrays.asList(student4, student5, null)));
+        expected.addAll(1, Arrays.asList(student4, student5, null));
+
+        assertEquals(6, studentList.size());
+        assertArrayEquals(expected.toArray(), studentList.toArray());
+    }
+
+    @Test
+    void testAddAndRemoveOnIndexAfterGrowth() {
+        List<Student> expected = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Student student = new Student("Student" + i, LocalDate.of(2000, 1, 1).plusDays(i), "");
+            studentList.add(i / 2, student);
+            expected.add(i / 2, student);
+        }
+        for (int i = 0; i < 20; i++) {
+            assertEquals(expected.remove(i), studentList.remove(i));
+        }
+
+        assertArrayEquals(expected.toArray(), studentList.toArray());
+    }
+
     @Test
     void testRemoveAllOnEmptyList() {
         List<Student> a = new ArrayList<>();
@@ -1053,6 +1537,167 @@ public class StudentListTest {
         assertTrue(studentList.isEmpty());
     }
 
+    @Test
+    void testRemoveAllRemovesEveryOccurrence() {
+        Collections.addAll(studentList, student1, student2, student1, null, student3, null);
+
+        assertTrue(studentList.removeAll(Arrays.asList(student1, null)));
+        assertArrayEquals(new Student[]{student2, student3}, studentList.toArray());
+    }
+
+    @Test
+    void testRetainAllWithLargeCollection() {
+        List<Student> a = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            a.add(new Student("Student" + i, LocalDate.of(2000, 1, 1), ""));
+        }
+        a.add(student2);
+        a.add(student4);
+
+        Collections.addAll(studentList, student1, student2, student3, student4, student5);
+
+        assertTrue(studentList.retainAll(a));
+        assertArrayEquals(new Student[]{student2, student4}, studentList.toArray());
+    }
+
+    @Test
+    void testRemoveIf() {
+        Collections.addAll(studentList, student1, student2, student3, student4, student5);
+
+        assertTrue(studentList.removeIf(s -> s.getName().startsWith("G")));
+        assertFalse(studentList.removeIf(s -> s.getName().startsWith("G")));
+        assertArrayEquals(new Student[]{student1, student2, student3}, studentList.toArray());
+    }
+
+    @Test
+    void testRemoveIfKeepsListConsistentWhenFilterThrows() {
+        Collections.addAll(studentList, student1, student2, student3, student4, student5);
+
+        assertThrows(IllegalStateException.class, () -> studentList.removeIf(s -> {
+            if (s == student4) {
+                throw new IllegalStateException();
+            }
+            return s == student2;
+        }));
+        assertArrayEquals(new Student[]{student1, student3, student4, student5}, studentList.toArray());
+    }
+
+    @Test
+    void testRemoveRange() {
+        Collections.addAll(studentList, student1, student2, student3, student4, student5);
+        studentList.enableIndex();
+
+        studentList.removeRange(1, 4);
+
+        assertArrayEquals(new Student[]{student1, student5}, studentList.toArray());
+        assertFalse(studentList.contains(student3));
+        assertEquals(1, studentList.indexOf(student5));
+    }
+
+    @Test
+    void testRemoveRangeBounds() {
+        Collections.addAll(studentList, student1, student2);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> studentList.removeRange(0, 3));
+        assertThrows(IllegalArgumentException.class, () -> studentList.removeRange(2, 1));
+        studentList.removeRange(1, 1);
+        assertEquals(2, studentList.size());
+    }
+
+    @Test
+    void testForEach() {
+        Collections.addAll(studentList, student1, student2, student3);
+        List<Student> visited = new ArrayList<>();
+
+        studentList.forEach(visited::add);
+
+        assertArrayEquals(studentList.toArray(), visited.toArray());
+    }
+
+    @Test
+    void testForEachIsFailFast() {
+        Collections.addAll(studentList, student1, student2, student3);
+
+        assertThrows(ConcurrentModificationException.class, () -> studentList.forEach(s -> studentList.add(student4)));
+        assertEquals(4, studentList.size());
+    }
+
+    @Test
+    void testReplaceAll() {
+        Collections.addAll(studentList, student1, student2, student3);
+        studentList.enableIndex();
+
+        studentList.replaceAll(s -> s == student2 ? student4 : s);
+
+        assertArrayEquals(new Student[]{student1, student4, student3}, studentList.toArray());
+        assertFalse(studentList.contains(student2));
+        assertEquals(1, studentList.indexOf(student4));
+    }
+
+    @Test
+    void testReplaceAllKeepsIndexWhenOperatorThrows() {
+        Collections.addAll(studentList, student1, student2);
+        studentList.enableIndex();
+
+        assertThrows(IllegalStateException.class, () -> studentList.replaceAll(s -> {
+            if (s == student2) {
+                throw new IllegalStateException();
+            }
+            return student3;
+        }));
+
+        assertArrayEquals(new Student[]{student3, student2}, studentList.toArray());
+        assertTrue(studentList.contains(student3));
+        assertFalse(studentList.contains(student1));
+    }
+
+    @Test
+    void testReplaceAllInvalidatesIterators() {
+        Collections.addAll(studentList, student1, student2);
+        Iterator<Student> iterator = studentList.iterator();
+
+        studentList.replaceAll(s -> student3);
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    void testSortByNaturalOrder() {
+        Collections.addAll(studentList, student1, student2, student3, student4, student5);
+
+        studentList.sort(null);
+
+        assertArrayEquals(new Student[]{student2, student1, student5, student4, student3}, studentList.toArray());
+    }
+
+    @Test
+    void testSortByComparatorInvalidatesIterators() {
+        Collections.addAll(studentList, student1, student2, student3, student4, student5);
+        Iterator<Student> iterator = studentList.iterator();
+
+        studentList.sort(Comparator.comparing(Student::getDateOfBirth).thenComparing(Student::getName));
+
+        assertArrayEquals(new Student[]{student2, student4, student1, student5, student3}, studentList.toArray());
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    void testParallelSort() {
+        List<Student> expected = new ArrayList<>();
+        Random random = new Random(3);
+        for (int i = 0; i < 20_000; i++) {
+            Student student = new Student("Student" + random.nextInt(5000), LocalDate.of(2000, 1, 1).plusDays(i), "");
+            studentList.add(student);
+            expected.add(student);
+        }
+        Comparator<Student> byName = Comparator.comparing(Student::getName);
+        expected.sort(byName);
+
+        studentList.parallelSort(byName);
+
+        assertArrayEquals(expected.toArray(), studentList.toArray());
+    }
+
     @Test
     void testToStringOnEmptyList() {
         String expected = "StudentList{size=" + studentList.size() + ", capacity=" + 10 + ", students=" + Arrays.toString(new Student[0]) + '}';
@@ -0,0 +1,136 @@
+package com.endava.internship.collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StudentLoaderTest {
+    private final Student student1 = new Student("Bobby", LocalDate.of(2001, 5, 26), "loser");
+    private final Student student2 = new Student("Bob", LocalDate.of(2000, 5, 26), "chad");
+    private final Student student3 = new Student("Val", LocalDate.of(2002, 5, 26), "nothing");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testLoadCsv() throws IOException {
+        Path path = write("roster.csv", "name,dateOfBirth,details\n"
+                + "Bobby,2001-05-26,loser\r\n"
+                + "\"Bob\",2000-05-26,\"chad, \"\"the\"\" one\"\n"
+                + "\n"
+                + "Val,2002-05-26,\n");
+
+        StudentList<Student> students = StudentLoader.load(path, StudentLoader.Format.CSV);
+
+        assertEquals(Arrays.asList(student1, student2, student3), students);
+        assertEquals("chad, \"the\" one", students.get(1).getDetails());
+        assertNull(students.get(2).getDetails());
+    }
+
+    @Test
+    void testLoadJsonArray() throws IOException {
+        Path path = write("roster.json", "[\n"
+                + "  {\"name\": \"Bobby\", \"dateOfBirth\": \"2001-05-26\", \"details\": \"loser\"},\n"
+                + "  {\"id\": 7, \"name\": \"B\\u006fb\", \"dateOfBirth\": \"2000-05-26\", \"details\": \"line\\nbreak\"},\n"
+                + "  {\"details\": null, \"dateOfBirth\": \"2002-05-26\", \"name\": \"Val\"}\n"
+                + "]\n");
+
+        StudentList<Student> students = StudentLoader.load(path, StudentLoader.Format.JSON);
+
+        assertEquals(Arrays.asList(student1, student2, student3), students);
+        assertEquals("line\nbreak", students.get(1).getDetails());
+        assertNull(students.get(2).getDetails());
+    }
+
+    @Test
+    void testLoadNewlineDelimitedJson() throws IOException {
+        Path path = write("roster.ndjson", "{\"name\":\"Bobby\",\"dateOfBirth\":\"2001-05-26\"}\n"
+                + "{\"name\":\"Val\",\"dateOfBirth\":\"2002-05-26\",\"details\":\"nothing\"}\n");
+
+        StudentList<Student> students = StudentLoader.load(path, StudentLoader.Format.JSON);
+
+        assertEquals(Arrays.asList(student1, student3), students);
+        assertNull(students.get(0).getDetails());
+    }
+
+    @Test
+    void testLoadAppendsToExistingListFromChannel() throws IOException {
+        StudentList<Student> students = new StudentList<>();
+        students.add(student3);
+        byte[] csv = "Bobby,2001-05-26,loser\nBob,2000-05-26,chad".getBytes(StandardCharsets.UTF_8);
+
+        int loaded = StudentLoader.load(Channels.newChannel(new ByteArrayInputStream(csv)), StudentLoader.Format.CSV, students);
+
+        assertEquals(2, loaded);
+        assertEquals(Arrays.asList(student3, student1, student2), students);
+    }
+
+    @Test
+    void testLoadIntoSortedListKeepsItSorted() throws IOException {
+        SortedStudentList<Student> students = new SortedStudentList<>();
+        students.add(student1);
+        Path path = directory.resolve("unsorted.csv");
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write("Val,2002-05-26,nothing\nBob,2000-05-26,chad\n");
+            for (int i = 5_000; i > 0; i--) {
+                writer.write("Student" + i + ",2000-01-01,learner\n");
+            }
+        }
+
+        StudentLoader.load(path, StudentLoader.Format.CSV, students);
+
+        assertEquals(5_003, students.size());
+        for (int i = 1; i < students.size(); i++) {
+            assertTrue(students.get(i - 1).compareTo(students.get(i)) <= 0, "out of order at " + i);
+        }
+        assertEquals(0, students.indexOf(student2));
+        assertEquals(5_002, students.indexOf(student3));
+        assertTrue(students.contains(student1));
+    }
+
+    @Test
+    void testLargeFileIsPresizedFromItsLength() throws IOException {
+        int count = 50_000;
+        Path path = directory.resolve("large.csv");
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < count; i++) {
+                writer.write("Student" + i + "," + LocalDate.of(2000, 1, 1).plusDays(i % 5000) + ",details " + i + "\n");
+            }
+        }
+
+        StudentList<Student> students = StudentLoader.load(path, StudentLoader.Format.CSV);
+
+        assertEquals(count, students.size());
+        assertEquals("Student49999", students.get(count - 1).getName());
+        assertTrue(students.resizeCount() <= 2, "resizes: " + students.resizeCount());
+        assertTrue(students.capacity() < count * 5 / 4, "capacity: " + students.capacity());
+    }
+
+    @Test
+    void testMalformedInputNamesTheLine() throws IOException {
+        Path missingField = write("missing.csv", "Bobby,2001-05-26,loser\nBob,2000-05-26\n");
+        Path badDate = write("date.csv", "Bobby,2001-13-26,loser\n");
+        Path badJson = write("bad.json", "[{\"name\": \"Bobby\"}\n{\"name\": \"Bob\"}]");
+
+        IOException exception = assertThrows(IOException.class,
+                () -> StudentLoader.load(missingField, StudentLoader.Format.CSV));
+        assertTrue(exception.getMessage().endsWith("at line 2"), exception.getMessage());
+        assertThrows(IOException.class, () -> StudentLoader.load(badDate, StudentLoader.Format.CSV));
+        assertThrows(IOException.class, () -> StudentLoader.load(badJson, StudentLoader.Format.JSON));
+    }
+
+    private Path write(String name, String content) throws IOException {
+        return Files.write(directory.resolve(name), content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,91 @@
+package com.endava.internship.collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StudentStoreTest {
+    private StudentStore store;
+    private final Student student1 = new Student("Bobby", LocalDate.of(2001, 5, 26), "loser");
+    private final Student student2 = new Student("Bob", LocalDate.of(2000, 5, 26), null);
+    private final Student student3 = new Student("Bobby", LocalDate.of(2002, 5, 26), "nothing");
+    private final Student student4 = new Student(null, null, null);
+
+    @BeforeEach
+    void setUp() {
+        store = new StudentStore();
+    }
+
+    @Test
+    void testMaterializesEqualStudents() {
+        Collections.addAll(store, student1, student2, student3, student4);
+
+        assertEquals(4, store.size());
+        assertEquals(student1, store.get(0));
+        assertEquals("loser", store.get(0).getDetails());
+        assertNull(store.get(1).getDetails());
+        assertNull(store.get(3).getName());
+        assertNull(store.get(3).getDateOfBirth());
+        assertEquals(2, store.distinctNames());
+    }
+
+    @Test
+    void testColumnAccessors() {
+        Collections.addAll(store, student1, student2);
+
+        assertEquals("Bob", store.nameAt(1));
+        assertEquals(LocalDate.of(2001, 5, 26), store.dateOfBirthAt(0));
+        assertNull(store.detailsAt(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> store.nameAt(2));
+    }
+
+    @Test
+    void testInsertAndRemoveInTheMiddle() {
+        List<Student> expected = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            Student student = new Student("Student" + i % 7, LocalDate.of(2000, 1, 1).plusDays(i), i % 3 == 0 ? "x" : null);
+            store.add(i / 2, student);
+            expected.add(i / 2, student);
+        }
+        assertEquals(expected.remove(5), store.remove(5));
+        assertEquals(expected.set(7, student1), store.set(7, student1));
+
+        assertEquals(expected, store);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getDetails(), store.get(i).getDetails());
+        }
+    }
+
+    @Test
+    void testIndexOfComparesColumns() {
+        Collections.addAll(store, student1, student2, student3, student4);
+
+        assertEquals(2, store.indexOf(student3));
+        assertEquals(3, store.indexOf(new Student(null, null, "other")));
+        assertFalse(store.contains(new Student("Unknown", LocalDate.of(2001, 5, 26), "")));
+        assertFalse(store.contains(null));
+    }
+
+    @Test
+    void testRejectedDatesLeaveStoreUnchanged() {
+        Collections.addAll(store, student1, student2);
+        Student timeless = new Student("Tim", LocalDate.MAX, "x");
+
+        assertThrows(IllegalArgumentException.class, () -> store.add(0, timeless));
+        assertThrows(IllegalArgumentException.class, () -> store.set(1, timeless));
+        assertThrows(IllegalArgumentException.class, () -> store.add(new Student("Tim", LocalDate.MIN, null)));
+
+        assertEquals(Arrays.asList(student1, student2), store);
+        assertNull(store.detailsAt(1));
+        assertEquals(-1, store.indexOf(timeless));
+    }
+
+    @Test
+    void testNullElementsAreRejected() {
+        assertThrows(NullPointerException.class, () -> store.add(null));
+    }
+}
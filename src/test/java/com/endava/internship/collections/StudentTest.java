@@ -0,0 +1,41 @@
+package com.endava.internship.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StudentTest {
+    private final Student student = new Student("Bob", LocalDate.of(2000, 5, 26), "chad");
+
+    @Test
+    void testEqualsIgnoresDetails() {
+        Student other = new Student("Bob", LocalDate.of(2000, 5, 26), "other");
+
+        assertEquals(student, other);
+        assertEquals(student.hashCode(), other.hashCode());
+    }
+
+    @Test
+    void testNotEqualForDifferentNameOrDateOfBirth() {
+        assertNotEquals(student, new Student("Bobby", LocalDate.of(2000, 5, 26), "chad"));
+        assertNotEquals(student, new Student("Bob", LocalDate.of(2001, 5, 26), "chad"));
+        assertNotEquals(student, null);
+        assertNotEquals(student, "Bob");
+    }
+
+    @Test
+    void testHashCodeMatchesObjectsHash() {
+        assertEquals(Objects.hash("Bob", LocalDate.of(2000, 5, 26)), student.hashCode());
+        assertEquals(Objects.hash(null, null), new Student(null, null, null).hashCode());
+    }
+
+    @Test
+    void testEqualsWithNullFields() {
+        assertEquals(new Student(null, null, "a"), new Student(null, null, "b"));
+        assertNotEquals(new Student(null, null, "a"), student);
+        assertNotEquals(student, new Student("Bob", null, "chad"));
+    }
+}